@@ -0,0 +1,125 @@
+#!/usr/bin/env bash
+# Compara o tempo até o readiness (carga + aquecimento) e a memória residente do serviço em três modos:
+#   jvm    - jar comum
+#   cds    - jar com Spring AOT (perfil aot) e arquivo AppCDS gerado numa execução de treino
+#   native - imagem nativa GraalVM (perfil native, exige native-image no PATH)
+#
+# Uso: scripts/startup-compare.sh [jvm] [cds] [native]   (sem argumentos: todos os disponíveis)
+# Variáveis: PORT (8089), RUNS (3 execuções por modo), APP_ARGS (argumentos extras, ex.: --movies.loader.sources=/data)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8089}"
+RUNS="${RUNS:-3}"
+APP_ARGS="${APP_ARGS:-}"
+# mvnw não tem o bit de execução no repositório: chamado pelo sh
+MVN="sh ./mvnw -q -B"
+WORK="target/startup-compare"
+READINESS="http://localhost:${PORT}/ws-movies/actuator/health/readiness"
+
+modes=("$@")
+if [ ${#modes[@]} -eq 0 ]; then
+    modes=(jvm cds)
+    if command -v native-image >/dev/null 2>&1; then
+        modes+=(native)
+    else
+        echo "native-image not found, skipping the native mode" >&2
+    fi
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Memória residente em MB do processo (Linux: /proc; macOS: ps)
+rss_mb() {
+    local pid=$1
+    if [ -r "/proc/${pid}/status" ]; then
+        awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/${pid}/status"
+    else
+        ps -o rss= -p "${pid}" | awk '{ printf "%.1f", $1 / 1024 }'
+    fi
+}
+
+build() {
+    local mode=$1
+    mkdir -p "${WORK}"
+    case "${mode}" in
+        jvm)
+            ${MVN} -DskipTests package
+            cp target/ws-movies-*.jar "${WORK}/jvm.jar"
+            ;;
+        cds)
+            ${MVN} -Paot -DskipTests package
+            rm -rf "${WORK}/cds"
+            java -Djarmode=tools -jar target/ws-movies-*.jar extract --destination "${WORK}/cds"
+            # Execução de treino: sobe o contexto e sai logo após o refresh, gravando as classes carregadas
+            local jar
+            jar=$(ls "${WORK}"/cds/ws-movies-*.jar)
+            java -XX:ArchiveClassesAtExit="${WORK}/cds/app.jsa" -Dspring.aot.enabled=true \
+                -Dspring.context.exit=onRefresh -jar "${jar}" --server.port=0 > "${WORK}/cds-training.log" 2>&1
+            ;;
+        native)
+            ${MVN} -Pnative -DskipTests native:compile
+            cp target/ws-movies "${WORK}/ws-movies-native"
+            ;;
+    esac
+}
+
+# Roda em segundo plano: exec troca o subshell pelo processo do serviço, então $! é o pid dele
+# (RSS medido e kill no processo certo, sem deixar a porta ocupada para o modo seguinte)
+start() {
+    local mode=$1
+    # shellcheck disable=SC2086
+    case "${mode}" in
+        jvm)
+            exec java -jar "${WORK}/jvm.jar" --server.port="${PORT}" ${APP_ARGS} ;;
+        cds)
+            exec java -XX:SharedArchiveFile="${WORK}/cds/app.jsa" -Dspring.aot.enabled=true \
+                -jar "$(ls "${WORK}"/cds/ws-movies-*.jar)" --server.port="${PORT}" ${APP_ARGS} ;;
+        native)
+            exec "${WORK}/ws-movies-native" --server.port="${PORT}" ${APP_ARGS} ;;
+    esac
+}
+
+# Mede uma execução: ms até o readiness responder 200 e RSS nesse momento
+measure() {
+    local mode=$1 run=$2
+    local log="${WORK}/${mode}-${run}.log"
+    local begin pid ready
+    if curl -sf -o /dev/null "${READINESS}"; then
+        echo "port ${PORT} is already answering, stop that process first" >&2
+        exit 1
+    fi
+    begin=$(now_ms)
+    start "${mode}" > "${log}" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${READINESS}"; do
+        if ! kill -0 "${pid}" 2>/dev/null; then
+            echo "${mode} exited before becoming ready, see ${log}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - begin ))
+    local rss
+    rss=$(rss_mb "${pid}")
+    local started
+    started=$(grep -o 'Started WsMoviesApplication in [0-9.]* seconds' "${log}" | grep -o '[0-9.]*' | head -1 || true)
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    printf '%-7s %4s %10s %12s %10s\n' "${mode}" "${run}" "${ready}" "${started:--}" "${rss}"
+}
+
+for mode in "${modes[@]}"; do
+    echo "Building ${mode}..." >&2
+    build "${mode}"
+done
+
+printf '%-7s %4s %10s %12s %10s\n' mode run ready_ms started_s rss_mb
+for mode in "${modes[@]}"; do
+    for run in $(seq 1 "${RUNS}"); do
+        measure "${mode}" "${run}"
+    done
+done
@@ -0,0 +1,214 @@
+package br.movies.benchmark;
+
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.datasource.projection.ProducerWinView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera catálogos sintéticos no formato do Movielist.csv. A popularidade de produtores e estúdios
+ * é enviesada (poucos nomes concentram muitos filmes), como no catálogo real.
+ *
+ * Também pode ser usado para gerar arquivos: java ... CatalogGenerator <arquivo> <filmes> <produtores>
+ */
+public class CatalogGenerator {
+
+    public static final int FIRST_YEAR = 1980;
+    public static final int LAST_YEAR = 2024;
+
+    public record GeneratedMovie(int year, String title, List<String> studios, List<Integer> producers, boolean winner) {
+    }
+
+    private final int producerCardinality;
+    private final List<GeneratedMovie> movies;
+
+    public CatalogGenerator(int size, int producerCardinality, long seed) {
+        this.producerCardinality = producerCardinality;
+        this.movies = generate(size, producerCardinality, Math.max(1, producerCardinality / 20), seed);
+    }
+
+    public List<GeneratedMovie> movies() {
+        return movies;
+    }
+
+    public static String producerName(int producer) {
+        return "Producer " + producer;
+    }
+
+    public byte[] toCsv() {
+        StringBuilder csv = new StringBuilder(movies.size() * 96);
+        appendCsv(csv);
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder csv = new StringBuilder();
+            appendCsv(csv);
+            writer.append(csv);
+        }
+    }
+
+    // Vitórias (produtor, ano) na ordem devolvida por MovieRepository.streamProducerWins
+    public List<ProducerWinView> producerWins() {
+        List<ProducerWinView> wins = new ArrayList<>();
+        for (GeneratedMovie movie : movies) {
+            if (movie.winner()) {
+                for (int producer : movie.producers()) {
+                    wins.add(new Win(producer, movie.year()));
+                }
+            }
+        }
+        wins.sort(Comparator.comparing(ProducerWinView::getProducerId).thenComparing(ProducerWinView::getYearMovie));
+        return wins;
+    }
+
+    // Linhas no formato de MovieRepository.findWinnerProducerViews
+    public List<MovieProducerView> winnerViews() {
+        List<MovieProducerView> views = new ArrayList<>();
+        for (int i = 0; i < movies.size(); i++) {
+            GeneratedMovie movie = movies.get(i);
+            if (movie.winner()) {
+                for (int producer : movie.producers()) {
+                    views.add(new View(i + 1L, movie.year(), producer));
+                }
+            }
+        }
+        return views;
+    }
+
+    // Mesmo catálogo no armazenamento colunar (ids de filme = posição + 1)
+    public MovieColumns toColumns() {
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        for (int i = 0; i < movies.size(); i++) {
+            GeneratedMovie movie = movies.get(i);
+            long movieId = i + 1L;
+            builder.addMovie(movieId, movie.year(), movie.title(), movie.winner());
+            for (String studio : movie.studios()) {
+                builder.addStudio(movieId, Long.parseLong(studio.substring("Studio ".length())), studio);
+            }
+            for (int producer : movie.producers()) {
+                builder.addProducer(movieId, producer, producerName(producer));
+            }
+        }
+        return builder.build();
+    }
+
+    public int producerCardinality() {
+        return producerCardinality;
+    }
+
+    private void appendCsv(StringBuilder csv) {
+        csv.append("year;title;studios;producers;winner\n");
+        for (GeneratedMovie movie : movies) {
+            csv.append(movie.year()).append(';').append(movie.title()).append(';')
+                    .append(String.join(", ", movie.studios())).append(';');
+            List<Integer> producers = movie.producers();
+            for (int i = 0; i < producers.size(); i++) {
+                if (i > 0) {
+                    csv.append(i == producers.size() - 1 ? " and " : ", ");
+                }
+                csv.append(producerName(producers.get(i)));
+            }
+            csv.append(';').append(movie.winner() ? "yes" : "").append('\n');
+        }
+    }
+
+    private static List<GeneratedMovie> generate(int size, int producers, int studios, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int years = LAST_YEAR - FIRST_YEAR + 1;
+        List<GeneratedMovie> movies = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            int year = FIRST_YEAR + (int) ((long) i * years / size);
+
+            List<String> movieStudios = new ArrayList<>(2);
+            int studioCount = 1 + random.nextInt(2);
+            for (int s = 0; s < studioCount; s++) {
+                String studio = "Studio " + skewed(random, studios);
+                if (!movieStudios.contains(studio)) {
+                    movieStudios.add(studio);
+                }
+            }
+
+            List<Integer> movieProducers = new ArrayList<>(3);
+            int producerCount = 1 + random.nextInt(3);
+            for (int p = 0; p < producerCount; p++) {
+                int producer = skewed(random, producers);
+                if (!movieProducers.contains(producer)) {
+                    movieProducers.add(producer);
+                }
+            }
+
+            // Cerca de um vencedor a cada cinco indicados
+            boolean winner = random.nextInt(5) == 0;
+            movies.add(new GeneratedMovie(year, "Movie " + i, movieStudios, movieProducers, winner));
+        }
+        return movies;
+    }
+
+    private static int skewed(SplittableRandom random, int cardinality) {
+        double u = random.nextDouble();
+        return 1 + (int) (cardinality * u * u);
+    }
+
+    private record Win(long producer, int year) implements ProducerWinView {
+        @Override
+        public Long getProducerId() {
+            return producer;
+        }
+
+        @Override
+        public String getProducerName() {
+            return producerName((int) producer);
+        }
+
+        @Override
+        public Integer getYearMovie() {
+            return year;
+        }
+    }
+
+    private record View(long movieId, int year, long producer) implements MovieProducerView {
+        @Override
+        public Long getMovieId() {
+            return movieId;
+        }
+
+        @Override
+        public Integer getYearMovie() {
+            return year;
+        }
+
+        @Override
+        public Boolean getWinner() {
+            return true;
+        }
+
+        @Override
+        public Long getProducerId() {
+            return producer;
+        }
+
+        @Override
+        public String getProducerName() {
+            return producerName((int) producer);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args[0]);
+        int size = Integer.parseInt(args[1]);
+        int producers = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(1, size / 10);
+        new CatalogGenerator(size, producers, 42).writeCsv(path);
+    }
+}
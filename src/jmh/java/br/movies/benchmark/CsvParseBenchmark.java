@@ -0,0 +1,81 @@
+package br.movies.benchmark;
+
+import br.movies.datasource.csv.CsvErrorMode;
+import br.movies.datasource.csv.MovieCsvReader;
+import br.movies.datasource.csv.MovieRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o {@link MovieCsvReader} com o parse anterior do DataLoader (readLine + split + regex).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvParseBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        csv = new CatalogGenerator(size, Math.max(1, size / 10), 42).toCsv();
+    }
+
+    @Benchmark
+    public void byteReader(Blackhole blackhole) throws IOException {
+        try (MovieCsvReader reader = new MovieCsvReader(
+                Channels.newChannel(new ByteArrayInputStream(csv)), CsvErrorMode.LENIENT)) {
+            MovieRecord record;
+            while ((record = reader.next()) != null) {
+                blackhole.consume(record);
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacySplit(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] tokens = line.split(";");
+                blackhole.consume(Integer.parseInt(tokens[0].trim()));
+                blackhole.consume(tokens[1].trim());
+                for (String studio : tokens[2].split(",")) {
+                    blackhole.consume(studio.trim());
+                }
+                for (String group : tokens[3].trim().split("\\s+and\\s+")) {
+                    for (String producer : group.split(",")) {
+                        blackhole.consume(producer.trim());
+                    }
+                }
+                blackhole.consume(tokens.length > 4 && tokens[4].trim().equalsIgnoreCase("yes"));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package br.movies.benchmark;
+
+import br.movies.WsMoviesApplication;
+import br.movies.datasource.DataLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Carga completa (parse + gravação no H2 + reconstrução do índice) de um catálogo gerado,
+ * dividido em arquivos para exercitar o parse paralelo. Cada medição parte das tabelas vazias.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IngestBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"4"})
+    private int files;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private DataLoader dataLoader;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("movies-ingest");
+        int perFile = size / files;
+        for (int i = 0; i < files; i++) {
+            new CatalogGenerator(perFile, Math.max(1, perFile / 10), 42 + i)
+                    .writeCsv(directory.resolve("movies-" + i + ".csv"));
+        }
+
+        context = new SpringApplicationBuilder(WsMoviesApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("movies.loader.sources=" + directory, "logging.level.root=warn")
+                .run();
+        dataLoader = context.getBean(DataLoader.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTables() {
+        for (String table : List.of("movie_producers", "movie_studios", "movie", "producer", "studio")) {
+            jdbcTemplate.update("delete from " + table);
+        }
+    }
+
+    @Benchmark
+    public void load() throws Exception {
+        dataLoader.run();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.movies.benchmark;
+
+import br.movies.config.IntervalProperties;
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.projection.ProducerWinView;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.service.ColumnarProducerIntervalCalculator;
+import br.movies.service.JvmProducerIntervalCalculator;
+import br.movies.service.ProducerAwardIntervalService;
+import br.movies.service.ProducerIntervalIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de {@link ProducerAwardIntervalService#getProducerIntervals()} por estratégia, sem banco:
+ * a estratégia JVM lê as vitórias geradas de um repositório falso, INDEX e COLUMNAR usam as
+ * estruturas em memória já montadas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerIntervalBenchmark {
+
+    @Param({"JVM", "INDEX", "COLUMNAR"})
+    private IntervalProperties.Strategy strategy;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"1000", "50000"})
+    private int producers;
+
+    // COLUMNAR: vitórias a partir das quais o cálculo usa o ForkJoinPool (-p parallelThreshold=0 para só sequencial)
+    @Param({"200000"})
+    private int parallelThreshold;
+
+    private ProducerAwardIntervalService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator catalog = new CatalogGenerator(size, producers, 42);
+        List<ProducerWinView> wins = catalog.producerWins();
+
+        ProducerIntervalIndex index = new ProducerIntervalIndex();
+        index.rebuild(catalog.winnerViews());
+
+        MovieColumnStore columnStore = new MovieColumnStore();
+        columnStore.replace(catalog.toColumns());
+
+        IntervalProperties properties = new IntervalProperties();
+        properties.setStrategy(strategy);
+        properties.setParallelThreshold(parallelThreshold);
+
+        // A estratégia SQL depende do banco e fica de fora deste benchmark
+        // Registry em memória: o custo das métricas entra na medição, como em produção
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new ProducerAwardIntervalService(index,
+                new JvmProducerIntervalCalculator(repositoryStreaming(wins), meterRegistry), null,
+                new ColumnarProducerIntervalCalculator(columnStore, properties), properties, meterRegistry);
+    }
+
+    @Benchmark
+    public ProducerIntervalResponse producerIntervals() {
+        return service.getProducerIntervals();
+    }
+
+    private static MovieRepository repositoryStreaming(List<ProducerWinView> wins) {
+        return (MovieRepository) Proxy.newProxyInstance(MovieRepository.class.getClassLoader(),
+                new Class<?>[]{MovieRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("streamProducerWins")) {
+                        return wins.stream();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package br.movies.benchmark;
+
+import br.movies.WsMoviesApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boot a frio da aplicação (contexto Spring + carga dos filmes) lendo o CSV ou restaurando o
+ * snapshot binário. Cada fork é uma JVM nova e mede um único boot.
+ * Ex.: mvn -Pjmh -DskipTests verify -Djmh.args="StartupBenchmark -p size=1000000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    @Param({"csv", "snapshot"})
+    private String mode;
+
+    @Param({"1000000"})
+    private int size;
+
+    private Path csv;
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Arquivos reaproveitados entre forks: gerar 1M de linhas a cada JVM dominaria o tempo total
+        Path directory = Path.of("target", "startup-benchmark");
+        Files.createDirectories(directory);
+        csv = directory.resolve("movies-" + size + ".csv");
+        snapshot = directory.resolve("movies-" + size + ".snap");
+        if (!Files.exists(csv)) {
+            new CatalogGenerator(size, Math.max(1, size / 10), 42).writeCsv(csv);
+        }
+        if (mode.equals("snapshot") && !Files.exists(snapshot)) {
+            start().close();
+        }
+    }
+
+    @Benchmark
+    public void boot() {
+        start().close();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(WsMoviesApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("movies.loader.sources=" + csv.toAbsolutePath(),
+                        "movies.loader.snapshot=" + (mode.equals("snapshot") ? snapshot.toAbsolutePath() : ""),
+                        "logging.level.root=warn")
+                .run();
+    }
+}
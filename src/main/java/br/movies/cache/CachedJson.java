@@ -0,0 +1,7 @@
+package br.movies.cache;
+
+/**
+ * Resposta já serializada, com ETag forte derivado do conteúdo.
+ */
+public record CachedJson(long version, byte[] body, String etag) {
+}
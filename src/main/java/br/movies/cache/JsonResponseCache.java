@@ -0,0 +1,160 @@
+package br.movies.cache;
+
+import br.movies.config.CacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache de respostas JSON já serializadas, invalidado pelo {@link MovieDataVersion}. Uma entrada
+ * de versão antiga pode ser servida por até {@code movies.cache.stale-while-revalidate} enquanto
+ * o recálculo roda em background.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonResponseCache {
+
+    private final MovieDataVersion movieDataVersion;
+    private final CacheProperties cacheProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor taskExecutor;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final CachedJson json;
+        // Momento em que a entrada foi vista desatualizada pela primeira vez (0 = atual)
+        private final AtomicLong staleSince = new AtomicLong();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(CachedJson json) {
+            this.json = json;
+        }
+    }
+
+    public CachedJson get(String key, Supplier<?> compute) {
+        long version = movieDataVersion.current();
+        if (!cacheProperties.isEnabled()) {
+            return serialize(key, compute, version);
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.json.version() == version) {
+            count(key, "hit");
+            return entry.json;
+        }
+
+        if (entry != null && canServeStale(entry)) {
+            count(key, "stale");
+            refreshInBackground(key, entry, compute);
+            return entry.json;
+        }
+
+        count(key, "miss");
+        return refresh(key, compute);
+    }
+
+    private boolean canServeStale(Entry entry) {
+        long window = cacheProperties.getStaleWhileRevalidate().toNanos();
+        if (window <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        entry.staleSince.compareAndSet(0, now);
+        return now - entry.staleSince.get() <= window;
+    }
+
+    private void refreshInBackground(String key, Entry entry, Supplier<?> compute) {
+        if (entry.refreshing.compareAndSet(false, true)) {
+            taskExecutor.execute(() -> {
+                try {
+                    refresh(key, compute);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh cached response {}", key, e);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private CachedJson refresh(String key, Supplier<?> compute) {
+        // Requisições simultâneas para a mesma chave recalculam uma única vez. ReentrantLock em vez
+        // de synchronized: o cálculo pode consultar a base e não deve prender a carrier de uma virtual thread.
+        Lock lock = lockFor(key);
+        lock.lock();
+        try {
+            long version = movieDataVersion.current();
+            Entry entry = entries.get(key);
+            if (entry != null && entry.json.version() == version) {
+                return entry.json;
+            }
+
+            CachedJson json = serialize(key, compute, version);
+            if (json.body().length <= cacheProperties.getMaxEntrySize().toBytes()) {
+                entries.put(key, new Entry(json));
+            } else {
+                entries.remove(key);
+            }
+            return json;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CachedJson serialize(String key, Supplier<?> compute, long version) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object value = compute.get();
+            // Serialização medida à parte do cálculo, com o tamanho do corpo gerado
+            long start = System.nanoTime();
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            meterRegistry.timer("movies.serialization", "response", key)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meterRegistry.summary("movies.serialization.bytes", "response", key).record(body.length);
+            return new CachedJson(version, body, etag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response " + key, e);
+        } finally {
+            sample.stop(meterRegistry.timer("movies.cache.recompute", "cache", key));
+        }
+    }
+
+    private Lock lockFor(String key) {
+        return locks.computeIfAbsent(key, k -> new ReentrantLock());
+    }
+
+    private void count(String key, String result) {
+        meterRegistry.counter("movies.cache.requests", "cache", key, "result", result).increment();
+    }
+
+    // ETag forte: muda somente quando o conteúdo serializado muda
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
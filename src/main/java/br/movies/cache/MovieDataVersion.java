@@ -0,0 +1,29 @@
+package br.movies.cache;
+
+import br.movies.datasource.event.MoviesChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador incrementado a cada alteração confirmada de filmes. Roda depois dos outros listeners
+ * para que um novo valor só seja visto quando as estruturas derivadas já estiverem atualizadas.
+ */
+@Component
+public class MovieDataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,20 @@
+package br.movies.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "movies.cache")
+public class CacheProperties {
+
+    private boolean enabled = true;
+
+    // Tempo em que uma resposta desatualizada ainda é servida enquanto é recalculada em background
+    private Duration staleWhileRevalidate = Duration.ZERO;
+
+    // Respostas maiores que isso não ficam em cache
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+}
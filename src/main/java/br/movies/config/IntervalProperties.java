@@ -0,0 +1,26 @@
+package br.movies.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "movies.intervals")
+public class IntervalProperties {
+
+    public enum Strategy {
+        // Lê do índice em memória mantido a cada alteração de filme
+        INDEX,
+        // Recalcula na JVM a partir da base a cada requisição
+        JVM,
+        // Recalcula na base (window functions), só o resultado final trafega
+        SQL,
+        // Recalcula sobre a cópia colunar em memória, sem acessar a base
+        COLUMNAR
+    }
+
+    private Strategy strategy = Strategy.INDEX;
+
+    // Estratégia COLUMNAR: a partir de quantas vitórias no total (somadas entre todos os produtores) o
+    // cálculo é dividido entre as threads do ForkJoinPool comum; 0 desliga o modo paralelo
+    private int parallelThreshold = 200_000;
+}
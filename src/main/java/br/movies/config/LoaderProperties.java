@@ -0,0 +1,41 @@
+package br.movies.config;
+
+import br.movies.datasource.csv.CsvErrorMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "movies.loader")
+public class LoaderProperties {
+
+    // Arquivos ou diretórios com CSVs; vazio carrega o Movielist.csv do classpath
+    private List<String> sources = new ArrayList<>();
+
+    // Quantidade de filmes gravados por transação/lote JDBC
+    private int batchSize = 500;
+
+    // STRICT interrompe a carga na primeira linha inválida, LENIENT descarta e registra a linha
+    private CsvErrorMode errorMode = CsvErrorMode.LENIENT;
+
+    // Threads que fazem o parse dos arquivos em paralelo
+    private int parserThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    // Lotes já parseados que cada arquivo pode acumular aguardando a gravação
+    private int queueCapacity = 4;
+
+    // Arquivo do snapshot binário; vazio desativa. Restaurado no boot se os CSVs não mudaram.
+    private String snapshot;
+
+    // CSV opcional de apelidos (tipo;apelido;nome canônico), recarregado a cada boot antes dos filmes
+    private String aliases;
+
+    // Observa os arquivos de sources e aplica só as diferenças quando mudam
+    private boolean watch = false;
+
+    // Tempo sem novos eventos de arquivo antes de recarregar (evita ler um arquivo ainda sendo copiado)
+    private Duration watchDebounce = Duration.ofSeconds(1);
+}
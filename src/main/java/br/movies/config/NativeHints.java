@@ -0,0 +1,86 @@
+package br.movies.config;
+
+import br.movies.datasource.entity.DataLoadState;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.NameAlias;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.event.ProducerStudioListener;
+import br.movies.datasource.projection.MovieLinkView;
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.datasource.projection.MovieRowView;
+import br.movies.datasource.projection.ProducerIntervalRow;
+import br.movies.datasource.projection.ProducerWinView;
+import br.movies.dto.DecadeWinners;
+import br.movies.dto.MovieBulkResult;
+import br.movies.dto.MovieCount;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.MovieSummary;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalPage;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.dto.ProducerSummary;
+import br.movies.dto.ProducerTimeline;
+import br.movies.dto.ProducerWin;
+import br.movies.dto.StudioAwardStats;
+import br.movies.dto.StudioAwardsResponse;
+import br.movies.dto.StudioInterval;
+import br.movies.dto.WinnerRange;
+import br.movies.dto.YearWinners;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.util.List;
+
+/**
+ * Dicas para a imagem nativa (perfil {@code native}) e para a execução com AOT na JVM: o que o
+ * processamento AOT não descobre sozinho. DTOs serializados fora dos controllers (respostas em
+ * cache e streaming), projeções de interface do Spring Data, entity listeners chamados pelo
+ * Hibernate, o provedor do cache de segundo nível e os recursos lidos do classpath.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> DTOS = List.of(MovieBulkResult.class, MovieCount.class, MovieRequest.class,
+            MovieSummary.class, ProducerInterval.class, ProducerIntervalPage.class, ProducerIntervalResponse.class,
+            ProducerSummary.class, ProducerTimeline.class, ProducerWin.class, StudioAwardStats.class,
+            StudioAwardsResponse.class, StudioInterval.class, YearWinners.class, DecadeWinners.class, WinnerRange.class);
+
+    static final List<Class<?>> PROJECTIONS = List.of(MovieLinkView.class, MovieProducerView.class,
+            MovieRowView.class, ProducerIntervalRow.class, ProducerWinView.class);
+
+    static final List<Class<?>> ENTITIES = List.of(Movie.class, Producer.class, Studio.class, NameAlias.class,
+            DataLoadState.class);
+
+    static final String CACHING_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Getters/setters gerados pelo Lombok, construtores e builders usados pelo Jackson
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        DTOS.forEach(dto -> bindings.registerReflectionHints(hints.reflection(), dto));
+
+        // Projeções de interface viram proxies JDK montados pelo Spring Data
+        PROJECTIONS.forEach(projection -> hints.proxies().registerJdkProxy(projection, TargetAware.class,
+                SpringProxy.class, DecoratingProxy.class));
+
+        // Campos lidos e gravados pelo Hibernate, além de construtor e callbacks (@PrePersist)
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS));
+        for (Class<?> listener : List.of(MovieChangeTracker.class, ProducerStudioListener.class)) {
+            hints.reflection().registerType(listener, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        // Instanciado pelo nome configurado em hibernate.javax.cache.provider
+        hints.reflection().registerType(TypeReference.of(CACHING_PROVIDER), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.resources().registerPattern("Movielist.csv");
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+}
@@ -0,0 +1,20 @@
+package br.movies.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "movies.warmup")
+public class WarmUpProperties {
+
+    // false: a aplicação fica pronta logo após a carga, como antes
+    private boolean enabled = true;
+
+    // Repetições dos caminhos quentes; o suficiente para o JIT compilar cálculo e serialização
+    private int iterations = 2_000;
+
+    // Limite do aquecimento em bases grandes; a aplicação fica pronta mesmo sem completar as repetições
+    private Duration maxDuration = Duration.ofSeconds(30);
+}
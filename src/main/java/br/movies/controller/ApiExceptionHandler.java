@@ -0,0 +1,59 @@
+package br.movies.controller;
+
+import br.movies.service.InvalidQueryException;
+import br.movies.service.MovieNotFoundException;
+import br.movies.service.ProducerNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Índices únicos disputados por duas gravações que criam o mesmo produtor/estúdio ao mesmo tempo
+    static final List<String> NAME_KEY_CONSTRAINTS = List.of("uk_producer_name_key", "uk_studio_name_key");
+
+    // Só a validação da aplicação vira 400; outras IllegalArgumentException (Hibernate, Spring, bugs) seguem como 500
+    @ExceptionHandler(InvalidQueryException.class)
+    public ProblemDetail handleInvalidQuery(InvalidQueryException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(MovieNotFoundException.class)
+    public ProblemDetail handleMovieNotFound(MovieNotFoundException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    @ExceptionHandler(ProducerNotFoundException.class)
+    public ProblemDetail handleProducerNotFound(ProducerNotFoundException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    // Duas gravações simultâneas criando o mesmo produtor/estúdio: a segunda esbarra no índice único
+    // e pode ser repetida, quando o nome já estará no lookup. Qualquer outra violação (chave estrangeira,
+    // not null, tamanho) não se resolve repetindo: relançada, segue como 500
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException exception) {
+        if (!isNameKeyConflict(exception)) {
+            throw exception;
+        }
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Conflicting concurrent write, retry the request");
+    }
+
+    // O banco devolve o nome do índice com o próprio prefixo e caixa (H2: PUBLIC.UK_PRODUCER_NAME_KEY_INDEX_8)
+    static boolean isNameKeyConflict(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return NAME_KEY_CONSTRAINTS.stream().anyMatch(constraint::contains);
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,52 @@
 package br.movies.controller.impl;
 
-import br.movies.dto.ProducerIntervalResponse;
+import br.movies.cache.CachedJson;
+import br.movies.cache.JsonResponseCache;
+import br.movies.dto.DecadeWinners;
+import br.movies.dto.MovieBulkResult;
+import br.movies.dto.MovieCount;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.MovieSummary;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalPage;
+import br.movies.dto.ProducerSummary;
+import br.movies.dto.ProducerTimeline;
+import br.movies.dto.WinnerRange;
+import br.movies.dto.YearWinners;
+import br.movies.service.AwardAnalyticsService;
+import br.movies.service.IntervalQuery;
+import br.movies.service.MovieQuery;
+import br.movies.service.MovieQueryService;
+import br.movies.service.MovieWriteService;
 import br.movies.service.ProducerAwardIntervalService;
+import br.movies.service.ProducerIntervalSearchService;
+import br.movies.service.ProducerIntervalStreamService;
+import br.movies.service.ProducerTimelineService;
+import br.movies.service.WinnerAggregateService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 @RestController()
@@ -13,10 +54,228 @@ import org.springframework.web.bind.annotation.RestController;
 public class MovieControllerImpl {
 
     private final ProducerAwardIntervalService producerAwardIntervalService;
+    private final JsonResponseCache jsonResponseCache;
+    private final ProducerIntervalSearchService producerIntervalSearchService;
+    private final ProducerIntervalStreamService producerIntervalStreamService;
+    private final ObjectMapper objectMapper;
+    private final MovieQueryService movieQueryService;
+    private final MovieWriteService movieWriteService;
+    private final ProducerTimelineService producerTimelineService;
+    private final AwardAnalyticsService awardAnalyticsService;
+    private final WinnerAggregateService winnerAggregateService;
+    private final MeterRegistry meterRegistry;
 
+    // O JSON já serializado vem do cache; com If-None-Match igual ao ETag o Spring responde 304
     @GetMapping("/producers/awards-intervals")
-    public ResponseEntity<ProducerIntervalResponse> getProducerAwardIntervals() {
-        ProducerIntervalResponse response = producerAwardIntervalService.getProducerIntervals();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getProducerAwardIntervals() {
+        CachedJson response = jsonResponseCache.get("awards-intervals", producerAwardIntervalService::getProducerIntervals);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.etag())
+                .body(response.body());
+    }
+
+    // Intervalos, vitórias e sequências por estúdio, calculados na mesma passada dos produtores
+    @GetMapping("/studios/awards-intervals")
+    public ResponseEntity<byte[]> getStudioAwardIntervals() {
+        CachedJson response = jsonResponseCache.get("studio-awards-intervals", awardAnalyticsService::getStudioAwards);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.etag())
+                .body(response.body());
+    }
+
+    @GetMapping("/producers/awards-intervals/shortest")
+    public ResponseEntity<ProducerIntervalPage> getShortestIntervals(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer minInterval,
+            @RequestParam(required = false) Integer maxInterval,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        IntervalQuery query = new IntervalQuery(false, minInterval, maxInterval, fromYear, toYear);
+        return ResponseEntity.ok(producerIntervalSearchService.search(query, limit, cursor));
+    }
+
+    @GetMapping("/producers/awards-intervals/longest")
+    public ResponseEntity<ProducerIntervalPage> getLongestIntervals(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer minInterval,
+            @RequestParam(required = false) Integer maxInterval,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        IntervalQuery query = new IntervalQuery(true, minInterval, maxInterval, fromYear, toYear);
+        return ResponseEntity.ok(producerIntervalSearchService.search(query, limit, cursor));
+    }
+
+    // Mesmo conteúdo de /producers/awards-intervals (mesma estratégia, min e max da mesma versão) escrito
+    // de forma incremental, sem montar o JSON inteiro.
+    // Com Accept: application/x-ndjson cada intervalo vira uma linha com o campo "kind" (min ou max).
+    @GetMapping("/producers/awards-intervals/stream")
+    public ResponseEntity<StreamingResponseBody> streamProducerAwardIntervals(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        if (ndjson) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(outputStream -> timed("awards-intervals-ndjson", () -> writeNdjson(outputStream)));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> timed("awards-intervals-stream", () -> writeJson(outputStream)));
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write() throws IOException;
+    }
+
+    // Mesmo timer das respostas em cache; aqui inclui a leitura dos intervalos, feita antes da escrita
+    private void timed(String response, StreamWriter writer) throws IOException {
+        long start = System.nanoTime();
+        try {
+            writer.write();
+        } finally {
+            meterRegistry.timer("movies.serialization", "response", response)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writeJson(OutputStream outputStream) throws IOException {
+        ProducerIntervalStreamService.IntervalSnapshot snapshot = producerIntervalStreamService.snapshot();
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("min");
+            snapshot.forEachShortest(generator::writeObject);
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("max");
+            snapshot.forEachLongest(generator::writeObject);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        ProducerIntervalStreamService.IntervalSnapshot snapshot = producerIntervalStreamService.snapshot();
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            snapshot.forEachShortest(interval -> writeLine(generator, "min", interval));
+            snapshot.forEachLongest(interval -> writeLine(generator, "max", interval));
+        }
+    }
+
+    private static void writeLine(JsonGenerator generator, String kind, ProducerInterval interval) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("kind", kind);
+        generator.writeStringField("producer", interval.getProducer());
+        generator.writeNumberField("interval", interval.getInterval());
+        generator.writeNumberField("previousWin", interval.getPreviousWin());
+        generator.writeNumberField("followingWin", interval.getFollowingWin());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    // O gerador usa um buffer fixo e grava direto na resposta; o stream é fechado pelo Spring.
+    // Sem separador entre valores raiz: no NDJSON a quebra de linha é escrita em writeLine.
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    // Consultas por produtor servidas pelos índices ordenados da cópia colunar
+    @GetMapping("/producers/{id}")
+    public ResponseEntity<ProducerTimeline> getProducerTimeline(@PathVariable Long id) {
+        return ResponseEntity.ok(producerTimelineService.findTimeline(id));
+    }
+
+    @GetMapping("/producers/search")
+    public ResponseEntity<List<ProducerSummary>> searchProducers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(producerTimelineService.searchByPrefix(prefix, limit));
+    }
+
+    @GetMapping("/producers/top")
+    public ResponseEntity<List<ProducerSummary>> getTopProducers(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(producerTimelineService.findTopWinners(limit));
+    }
+
+    // Agregados por faixa de anos: somas de prefixo e tabela de produtores distintos por ano
+    @GetMapping("/winners/by-year")
+    public ResponseEntity<List<YearWinners>> getWinnersByYear(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        return ResponseEntity.ok(winnerAggregateService.winnersByYear(fromYear, toYear));
+    }
+
+    @GetMapping("/winners/by-decade")
+    public ResponseEntity<List<DecadeWinners>> getWinnersByDecade(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        return ResponseEntity.ok(winnerAggregateService.winnersByDecade(fromYear, toYear));
+    }
+
+    @GetMapping("/winners/range")
+    public ResponseEntity<WinnerRange> getWinnersBetween(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        return ResponseEntity.ok(winnerAggregateService.winnersBetween(fromYear, toYear));
+    }
+
+    // Consultas servidas pelo armazenamento colunar em memória
+    @GetMapping("/movies")
+    public ResponseEntity<List<MovieSummary>> findMovies(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Boolean winner,
+            @RequestParam(required = false) String producer,
+            @RequestParam(required = false) String studio) {
+        MovieQuery query = new MovieQuery(fromYear, toYear, winner, producer, studio);
+        return ResponseEntity.ok(movieQueryService.search(query, limit));
+    }
+
+    @GetMapping("/movies/count")
+    public ResponseEntity<MovieCount> countMovies(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Boolean winner,
+            @RequestParam(required = false) String producer,
+            @RequestParam(required = false) String studio) {
+        MovieQuery query = new MovieQuery(fromYear, toYear, winner, producer, studio);
+        return ResponseEntity.ok(new MovieCount(movieQueryService.count(query)));
+    }
+
+    @GetMapping("/movies/{id}")
+    public ResponseEntity<MovieSummary> getMovie(@PathVariable Long id) {
+        return ResponseEntity.ok(movieQueryService.findById(id));
+    }
+
+    // Gravações: o índice de intervalos e a cópia colunar são atualizados só com os filmes afetados
+    @PostMapping("/movies")
+    public ResponseEntity<MovieSummary> createMovie(@RequestBody MovieRequest request) {
+        MovieSummary created = movieWriteService.create(request);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(created.getId()).toUri())
+                .body(created);
+    }
+
+    @PutMapping("/movies/{id}")
+    public ResponseEntity<MovieSummary> updateMovie(@PathVariable Long id, @RequestBody MovieRequest request) {
+        return ResponseEntity.ok(movieWriteService.update(id, request));
+    }
+
+    @DeleteMapping("/movies/{id}")
+    public ResponseEntity<Void> deleteMovie(@PathVariable Long id) {
+        movieWriteService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/movies/bulk")
+    public ResponseEntity<MovieBulkResult> createMovies(@RequestBody List<MovieRequest> requests) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(movieWriteService.createAll(requests));
     }
 }
@@ -0,0 +1,39 @@
+package br.movies.datasource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Um arquivo CSV de filmes a ser carregado, seja do disco ou do classpath.
+ */
+public record CsvShard(String name, ChannelOpener opener) {
+
+    @FunctionalInterface
+    public interface ChannelOpener {
+        ReadableByteChannel open() throws IOException;
+    }
+
+    public ReadableByteChannel open() throws IOException {
+        return opener.open();
+    }
+
+    public static CsvShard ofPath(Path path) {
+        return new CsvShard(path.toString(), () -> FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public static CsvShard ofClasspath(String resource) {
+        return new CsvShard(resource, () -> {
+            InputStream inputStream = CsvShard.class.getClassLoader().getResourceAsStream(resource);
+            if (inputStream == null) {
+                throw new FileNotFoundException(resource + " not found in resources folder");
+            }
+            return Channels.newChannel(inputStream);
+        });
+    }
+}
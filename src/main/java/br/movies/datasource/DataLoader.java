@@ -1,124 +1,242 @@
 package br.movies.datasource;
 
-import br.movies.datasource.entity.Movie;
-import br.movies.datasource.entity.Producer;
-import br.movies.datasource.entity.Studio;
+import br.movies.config.LoaderProperties;
+import br.movies.datasource.entity.DataLoadState;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.repository.DataLoadStateRepository;
 import br.movies.datasource.repository.MovieRepository;
-import br.movies.datasource.repository.ProducerRepository;
-import br.movies.datasource.repository.StudioRepository;
+import br.movies.datasource.snapshot.MovieSnapshotStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
 
+    private static final String DEFAULT_RESOURCE = "Movielist.csv";
+
+    private final MovieIngestPipeline movieIngestPipeline;
+    private final LoaderProperties loaderProperties;
+    private final MovieChangeTracker movieChangeTracker;
+    private final MovieSnapshotStore movieSnapshotStore;
+    private final MovieDeltaLoader movieDeltaLoader;
+    private final NameAliasLoader nameAliasLoader;
     private final MovieRepository movieRepository;
-    private final StudioRepository studioRepository;
-    private final ProducerRepository producerRepository;
+    private final DataLoadStateRepository dataLoadStateRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Vazão da última carga completa do CSV, exposta como gauge
+    private final AtomicLong rowsPerSecond = new AtomicLong();
+
+    // Registrado uma vez; cada carga só atualiza o valor
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("movies.loader.rows.per.second", rowsPerSecond, AtomicLong::get)
+                .description("Rows per second of the last full CSV load")
+                .register(meterRegistry);
+    }
 
     @Override
     public void run(String... args) throws Exception {
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("Movielist.csv");
-        if (inputStream == null) {
-            throw new FileNotFoundException("Movielist.csv not found in resources folder");
+        List<CsvShard> shards = resolveShards();
+
+        long start = System.nanoTime();
+        byte[] sourceHash = MovieSnapshotStore.sourceHash(hashedSources(shards));
+        String sourceHashHex = HexFormat.of().formatHex(sourceHash);
+
+        // Base em arquivo já carregada com os mesmos arquivos: só remonta as estruturas em memória
+        boolean loaded = movieRepository.count() > 0;
+        if (loaded && isCurrent(sourceHashHex)) {
+            rebuildDerivedData();
+            recordLoad("database", -1, System.nanoTime() - start);
+            log.info("Database already holds the current sources, skipped load ({} ms)",
+                    (System.nanoTime() - start) / 1_000_000);
+            return;
         }
 
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        String line;
-        boolean isFirstLine = true;
+        // Apelidos antes dos filmes: a carga já junta as grafias alternativas
+        if (StringUtils.hasText(loaderProperties.getAliases())) {
+            nameAliasLoader.load(Path.of(loaderProperties.getAliases()));
+        }
 
-        while ((line = reader.readLine()) != null) {
-            if (isFirstLine) {
-                isFirstLine = false;
-                continue;
-            }
+        // Base em arquivo com arquivos alterados desde a última carga: aplica só as diferenças,
+        // comparando com a cópia colunar montada a partir do que já está gravado
+        if (loaded) {
+            rebuildDerivedData();
+            reloadChanges(shards, sourceHashHex);
+            return;
+        }
 
-            String[] tokens = line.split(";");
-
-            Integer year = Integer.parseInt(tokens[0].trim());
-            String title = tokens[1].trim();
-            String[] studiosArray = tokens[2].split(",");
-            String producersString = tokens[3].trim();
-            boolean winner;
-            try {
-                winner = tokens[4].trim().equalsIgnoreCase("yes");
-            } catch (Exception e){
-                winner = false;
-            }
+        Path snapshot = StringUtils.hasText(loaderProperties.getSnapshot()) ? Path.of(loaderProperties.getSnapshot()) : null;
+        long restoreStart = System.nanoTime();
+        if (snapshot != null && restoreSnapshot(snapshot, sourceHash)) {
+            recordPhase("snapshot-restore", System.nanoTime() - restoreStart);
+            rebuildDerivedData();
+            saveLoadState(sourceHashHex);
+            recordLoad("snapshot", -1, System.nanoTime() - start);
+            log.info("Startup load from snapshot took {} ms", (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
 
-            List<Studio> studios = Arrays.stream(studiosArray)
-                    .map(String::trim)
-                    .filter(name -> !name.isEmpty())
-                    .map(this::findOrCreateStudio)
-                    .collect(Collectors.toList());
+        MovieIngestPipeline.IngestResult result = movieIngestPipeline.load(shards);
+        recordPhase("parse", result.parseNanos());
+        recordPhase("resolve", result.resolveNanos());
+        recordPhase("persist", result.persistNanos());
 
-            // Processa produtores com "," e "and"
-            List<Producer> producers = parseProducers(producersString);
+        // Estruturas derivadas (índice de intervalos) são reconstruídas uma vez após a carga
+        rebuildDerivedData();
+        saveLoadState(sourceHashHex);
+        recordLoad("csv", result.rows(), System.nanoTime() - start);
 
-            Movie movie = new Movie();
-            movie.setYearMovie(year);
-            movie.setTitle(title);
-            movie.setWinner(winner);
-            movie.setStudios(studios);
-            movie.setProducers(producers);
+        if (result.skipped() > 0) {
+            log.warn("Skipped {} invalid records", result.skipped());
+        }
 
-            movieRepository.save(movie);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Loaded {} movies from {} file(s) in {} ms ({} rows/s, batch size {}, parser threads {}; "
+                        + "parse {} ms across threads, resolve {} ms, persist {} ms)",
+                result.rows(), shards.size(), elapsedMillis, result.rows() * 1000 / elapsedMillis,
+                loaderProperties.getBatchSize(), Math.min(loaderProperties.getParserThreads(), shards.size()),
+                result.parseNanos() / 1_000_000, result.resolveNanos() / 1_000_000, result.persistNanos() / 1_000_000);
+
+        // Próximo boot restaura o snapshot enquanto os CSVs não mudarem
+        if (snapshot != null) {
+            long writeStart = System.nanoTime();
+            movieSnapshotStore.write(snapshot, sourceHash);
+            recordPhase("snapshot-write", System.nanoTime() - writeStart);
+            log.info("Wrote snapshot {}", snapshot);
         }
+    }
 
-        reader.close();
+    // O reload é publicado sem transação, então o índice e a cópia colunar são remontados nesta chamada
+    private void rebuildDerivedData() {
+        long start = System.nanoTime();
+        movieChangeTracker.reloaded();
+        recordPhase("rebuild", System.nanoTime() - start);
     }
 
-    private List<Producer> parseProducers(String producersString) {
-        List<Producer> producers = new ArrayList<>();
+    private void recordPhase(String phase, long nanos) {
+        Timer.builder("movies.loader.phase")
+                .description("Time spent in each startup load phase (parse is summed across parser threads)")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
 
-        if (producersString == null || producersString.trim().isEmpty()) {
-            return producers;
+    // rows < 0: origem sem contagem de linhas (snapshot); no delta são as linhas alteradas
+    private void recordLoad(String source, long rows, long nanos) {
+        Timer.builder("movies.loader.duration")
+                .description("Total load time")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            meterRegistry.counter("movies.loader.rows", "source", source).increment(rows);
         }
+        if (source.equals("csv")) {
+            rowsPerSecond.set(rows * 1_000_000_000L / Math.max(1, nanos));
+        }
+    }
 
-        // "Produtor A and Produtor B"
-        String[] producerGroups = producersString.split("\\s+and\\s+");
-
-        for (String group : producerGroups) {
-            // Separação por "," "Produtor A, Produtor B and Produtor C"
-            String[] individualProducers = group.split(",");
+    /**
+     * Relê os arquivos de origem e aplica só as diferenças em relação ao que já foi carregado.
+     */
+    public MovieDeltaLoader.DeltaResult reloadChanges() throws IOException {
+        List<CsvShard> shards = resolveShards();
+        return reloadChanges(shards, HexFormat.of().formatHex(MovieSnapshotStore.sourceHash(hashedSources(shards))));
+    }
 
-            for (String producerName : individualProducers) {
-                String cleanName = producerName.trim();
-                if (!cleanName.isEmpty()) {
-                    producers.add(findOrCreateProducer(cleanName));
-                }
-            }
+    private MovieDeltaLoader.DeltaResult reloadChanges(List<CsvShard> shards, String sourceHashHex) throws IOException {
+        long start = System.nanoTime();
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(shards);
+        recordLoad("delta", result.inserted() + result.updated() + result.deleted(), System.nanoTime() - start);
+        log.info("Reloaded {} file(s) in {} ms: {} inserted, {} updated, {} deleted, {} unchanged",
+                shards.size(), (System.nanoTime() - start) / 1_000_000,
+                result.inserted(), result.updated(), result.deleted(), result.unchanged());
+
+        // Linhas inválidas descartadas impedem remoções: a base pode não refletir os arquivos por inteiro
+        if (result.skipped() == 0) {
+            saveLoadState(sourceHashHex);
+        }
+        // Mantém o snapshot alinhado com os arquivos novos para o próximo boot
+        if (result.changed() && StringUtils.hasText(loaderProperties.getSnapshot())) {
+            movieSnapshotStore.write(Path.of(loaderProperties.getSnapshot()), HexFormat.of().parseHex(sourceHashHex));
         }
+        return result;
+    }
+
+    private boolean isCurrent(String sourceHashHex) {
+        return dataLoadStateRepository.findById(DataLoadState.SINGLETON_ID)
+                .map(state -> sourceHashHex.equals(state.getSourceHash()))
+                .orElse(false);
+    }
+
+    private void saveLoadState(String sourceHashHex) {
+        dataLoadStateRepository.save(new DataLoadState(DataLoadState.SINGLETON_ID, sourceHashHex,
+                movieRepository.count(), LocalDateTime.now()));
+    }
 
-        return producers;
+    // Snapshot corrompido não impede o boot: registra e volta para o CSV
+    private boolean restoreSnapshot(Path snapshot, byte[] sourceHash) {
+        try {
+            return movieSnapshotStore.restore(snapshot, sourceHash);
+        } catch (IOException e) {
+            log.warn("Ignoring snapshot {}: {}", snapshot, e.getMessage());
+            return false;
+        }
     }
 
-    private Studio findOrCreateStudio(String name) {
-        return studioRepository.findByName(name)
-                .orElseGet(() -> {
-                    Studio studio = new Studio();
-                    studio.setName(name);
-                    return studioRepository.save(studio);
-                });
+    // Os apelidos mudam os produtores/estúdios gravados, então também invalidam o snapshot
+    private List<CsvShard> hashedSources(List<CsvShard> shards) {
+        if (!StringUtils.hasText(loaderProperties.getAliases())) {
+            return shards;
+        }
+        List<CsvShard> sources = new ArrayList<>(shards);
+        sources.add(CsvShard.ofPath(Path.of(loaderProperties.getAliases())));
+        return sources;
     }
 
-    private Producer findOrCreateProducer(String name) {
-        return producerRepository.findByName(name)
-                .orElseGet(() -> {
-                    Producer producer = new Producer();
-                    producer.setName(name);
-                    return producerRepository.save(producer);
-                });
+    private List<CsvShard> resolveShards() throws IOException {
+        if (loaderProperties.getSources().isEmpty()) {
+            return List.of(CsvShard.ofClasspath(DEFAULT_RESOURCE));
+        }
+
+        List<CsvShard> shards = new ArrayList<>();
+        for (String source : loaderProperties.getSources()) {
+            Path path = Path.of(source);
+            if (Files.isDirectory(path)) {
+                // Ordem alfabética garante a mesma ordem de gravação a cada carga
+                try (Stream<Path> files = Files.list(path)) {
+                    files.filter(file -> file.getFileName().toString().toLowerCase().endsWith(".csv"))
+                            .sorted()
+                            .forEach(file -> shards.add(CsvShard.ofPath(file)));
+                }
+            } else if (Files.isRegularFile(path)) {
+                shards.add(CsvShard.ofPath(path));
+            } else {
+                throw new FileNotFoundException(source + " not found");
+            }
+        }
+        return shards;
     }
-}
\ No newline at end of file
+}
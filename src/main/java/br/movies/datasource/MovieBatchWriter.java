@@ -0,0 +1,91 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.NameAlias;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.repository.NameAliasRepository;
+import br.movies.datasource.repository.ProducerRepository;
+import br.movies.datasource.repository.StudioRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class MovieBatchWriter {
+
+    private final StudioRepository studioRepository;
+    private final ProducerRepository producerRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final NameAliasRepository nameAliasRepository;
+    private final MovieChangeTracker movieChangeTracker;
+
+    // Dicionário chave normalizada -> entidade, evita um findByName por linha do CSV
+    // e junta variações de caixa e espaços num único registro
+    private final Map<String, Studio> studios = new HashMap<>();
+    private final Map<String, Producer> producers = new HashMap<>();
+    private final Map<String, String> studioAliases = new HashMap<>();
+    private final Map<String, String> producerAliases = new HashMap<>();
+
+    public void begin() {
+        studios.clear();
+        producers.clear();
+        studioAliases.clear();
+        producerAliases.clear();
+
+        // Carrega o que já existe na base para não duplicar estúdios e produtores
+        studioRepository.findAll().forEach(studio -> studios.putIfAbsent(NameKeys.normalize(studio.getName()), studio));
+        producerRepository.findAll().forEach(producer -> producers.putIfAbsent(NameKeys.normalize(producer.getName()), producer));
+        nameAliasRepository.findByKind(NameAlias.Kind.STUDIO)
+                .forEach(alias -> studioAliases.put(alias.getAliasKey(), alias.getName()));
+        nameAliasRepository.findByKind(NameAlias.Kind.PRODUCER)
+                .forEach(alias -> producerAliases.put(alias.getAliasKey(), alias.getName()));
+    }
+
+    public Studio resolveStudio(String name) {
+        String canonical = studioAliases.getOrDefault(NameKeys.normalize(name), name);
+        return studios.computeIfAbsent(NameKeys.normalize(canonical), key -> Studio.builder().name(canonical).build());
+    }
+
+    public Producer resolveProducer(String name) {
+        String canonical = producerAliases.getOrDefault(NameKeys.normalize(name), name);
+        return producers.computeIfAbsent(NameKeys.normalize(canonical), key -> Producer.builder().name(canonical).build());
+    }
+
+    public void write(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        // Um lote por transação: estúdios/produtores novos primeiro, depois filmes e tabelas de junção.
+        // Alterações da carga não são rastreadas filme a filme, o loader publica um reload no final.
+        movieChangeTracker.untracked(() -> transactionTemplate.execute(status -> {
+            for (Movie movie : movies) {
+                for (Studio studio : movie.getStudios()) {
+                    if (studio.getId() == null) {
+                        entityManager.persist(studio);
+                    }
+                }
+                for (Producer producer : movie.getProducers()) {
+                    if (producer.getId() == null) {
+                        entityManager.persist(producer);
+                    }
+                }
+                entityManager.persist(movie);
+            }
+
+            // Envia os INSERTs em batch e libera o contexto de persistência
+            entityManager.flush();
+            entityManager.clear();
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,199 @@
+package br.movies.datasource;
+
+import br.movies.config.LoaderProperties;
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.datasource.csv.MovieCsvReader;
+import br.movies.datasource.csv.MovieRecord;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.repository.MovieRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recarga incremental dos CSVs: compara o conteúdo dos arquivos com o que já está carregado
+ * (lido do armazenamento colunar, sem consultar a base), usando ano + título como chave, e grava
+ * somente inclusões, alterações e remoções. As alterações passam pelas entidades, então o índice
+ * de intervalos e as demais estruturas derivadas recebem só os filmes afetados. Só filmes de
+ * origem {@link Movie.Source#CSV} entram na comparação: os criados pela API não são alterados
+ * nem removidos, mesmo com ano e título repetidos ou ausentes dos arquivos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieDeltaLoader {
+
+    private final MovieColumnStore movieColumnStore;
+    private final ProducerStudioLookup producerStudioLookup;
+    private final MovieRepository movieRepository;
+    private final EntityManager entityManager;
+    private final MovieChangeTracker movieChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final LoaderProperties loaderProperties;
+
+    public record DeltaResult(int inserted, int updated, int deleted, int unchanged, long skipped) {
+
+        public boolean changed() {
+            return inserted + updated + deleted > 0;
+        }
+    }
+
+    private record MovieKey(int year, String title) {
+    }
+
+    private record ParsedSources(Map<MovieKey, MovieRecord> records, long skipped) {
+    }
+
+    public DeltaResult reload(List<CsvShard> shards) throws IOException {
+        ParsedSources parsed = parse(shards);
+        MovieColumns columns = movieColumnStore.current();
+        // Lido depois da cópia colunar: todo filme da API presente nela já está gravado
+        Set<Long> apiMovies = new HashSet<>(movieRepository.findIdsBySource(Movie.Source.API));
+
+        List<Long> deletes = new ArrayList<>();
+        Map<Long, MovieRecord> updates = new LinkedHashMap<>();
+        Set<MovieKey> matched = new HashSet<>();
+        int unchanged = 0;
+
+        for (int row = 0; row < columns.size(); row++) {
+            if (apiMovies.contains(columns.id(row))) {
+                continue;
+            }
+            MovieKey key = new MovieKey(columns.year(row), columns.title(row));
+            MovieRecord desired = parsed.records().get(key);
+            // Chave ausente do CSV ou repetida entre os filmes do CSV: o filme sai
+            if (desired == null || !matched.add(key)) {
+                deletes.add(columns.id(row));
+            } else if (sameContent(columns, row, desired)) {
+                unchanged++;
+            } else {
+                updates.put(columns.id(row), desired);
+            }
+        }
+
+        List<MovieRecord> inserts = new ArrayList<>();
+        parsed.records().forEach((key, record) -> {
+            if (!matched.contains(key)) {
+                inserts.add(record);
+            }
+        });
+
+        // Uma linha inválida descartada pareceria uma remoção; nesse caso só inclui e altera
+        if (parsed.skipped() > 0 && !deletes.isEmpty()) {
+            log.warn("Skipped {} invalid records, keeping {} movies missing from the sources", parsed.skipped(), deletes.size());
+            deletes.clear();
+        }
+
+        if (!inserts.isEmpty() || !updates.isEmpty() || !deletes.isEmpty()) {
+            apply(inserts, updates, deletes);
+        }
+        return new DeltaResult(inserts.size(), updates.size(), deletes.size(), unchanged, parsed.skipped());
+    }
+
+    private ParsedSources parse(List<CsvShard> shards) throws IOException {
+        Map<MovieKey, MovieRecord> records = new LinkedHashMap<>();
+        long skipped = 0;
+        for (CsvShard shard : shards) {
+            try (MovieCsvReader reader = new MovieCsvReader(shard.open(), loaderProperties.getErrorMode())) {
+                MovieRecord record;
+                while ((record = reader.next()) != null) {
+                    // Ano + título repetido: vale a última linha, como numa atualização do arquivo
+                    records.put(new MovieKey(record.year(), record.title()), record);
+                }
+                skipped += reader.getSkippedRecords();
+            }
+        }
+        return new ParsedSources(records, skipped);
+    }
+
+    // Compara pelas chaves internadas: uma variação de caixa ou espaço no CSV não conta como alteração.
+    // As ligações são conjuntos, a ordem em que a base devolve as linhas não conta.
+    private boolean sameContent(MovieColumns columns, int row, MovieRecord record) {
+        if (columns.winner(row) != record.winner()) {
+            return false;
+        }
+
+        Set<String> producers = new HashSet<>();
+        record.producers().forEach(name -> producers.add(producerStudioLookup.producerKey(name)));
+        Set<String> currentProducers = new HashSet<>();
+        for (int i = columns.producerStart(row); i < columns.producerEnd(row); i++) {
+            currentProducers.add(producerStudioLookup.producerKey(columns.producerName(columns.producerAt(i))));
+        }
+        if (!currentProducers.equals(producers)) {
+            return false;
+        }
+
+        Set<String> studios = new HashSet<>();
+        record.studios().forEach(name -> studios.add(producerStudioLookup.studioKey(name)));
+        Set<String> currentStudios = new HashSet<>();
+        for (int i = columns.studioStart(row); i < columns.studioEnd(row); i++) {
+            currentStudios.add(producerStudioLookup.studioKey(columns.studioName(columns.studioAt(i))));
+        }
+        return currentStudios.equals(studios);
+    }
+
+    // Uma única transação: o rastreador publica um só evento com todos os filmes afetados.
+    // Estúdios e produtores sem filmes continuam na base, como na carga completa.
+    private void apply(List<MovieRecord> inserts, Map<Long, MovieRecord> updates, List<Long> deletes) {
+        int batchSize = Math.max(1, loaderProperties.getBatchSize());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int pending = 0;
+            for (Long id : deletes) {
+                Movie movie = entityManager.find(Movie.class, id);
+                if (movie != null) {
+                    entityManager.remove(movie);
+                }
+                pending = flushIfFull(++pending, batchSize);
+            }
+
+            // Um lote de alterações por consulta, já com as ligações; as coleções são trocadas no lugar
+            List<Long> updateIds = new ArrayList<>(updates.keySet());
+            for (int from = 0; from < updateIds.size(); from += batchSize) {
+                List<Long> chunk = updateIds.subList(from, Math.min(from + batchSize, updateIds.size()));
+                for (Movie movie : movieRepository.findWithLinksByIdIn(chunk)) {
+                    MovieRecord record = updates.get(movie.getId());
+                    movie.setWinner(record.winner());
+                    movie.replaceStudios(producerStudioLookup.studios(record.studios()));
+                    movie.replaceProducers(producerStudioLookup.producers(record.producers()));
+                    // Só as ligações mudaram: sem UPDATE na linha do filme o @PostUpdate não avisa o rastreador
+                    movieChangeTracker.movieChanged(movie.getId());
+                }
+                pending = flushIfFull(pending + chunk.size(), batchSize);
+            }
+
+            for (MovieRecord record : inserts) {
+                entityManager.persist(Movie.builder()
+                        .yearMovie(record.year())
+                        .title(record.title())
+                        .winner(record.winner())
+                        .studios(producerStudioLookup.studios(record.studios()))
+                        .producers(producerStudioLookup.producers(record.producers()))
+                        .source(Movie.Source.CSV)
+                        .build());
+                pending = flushIfFull(++pending, batchSize);
+            }
+        });
+    }
+
+    private int flushIfFull(int pending, int batchSize) {
+        if (pending < batchSize) {
+            return pending;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return 0;
+    }
+}
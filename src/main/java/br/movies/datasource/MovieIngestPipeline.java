@@ -0,0 +1,192 @@
+package br.movies.datasource;
+
+import br.movies.config.LoaderProperties;
+import br.movies.datasource.csv.CsvParseException;
+import br.movies.datasource.csv.MovieCsvReader;
+import br.movies.datasource.csv.MovieRecord;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Carga em pipeline: os arquivos são parseados em paralelo e cada um entrega lotes numa fila
+ * limitada (backpressure). A gravação consome as filas na ordem dos arquivos, então os ids
+ * gerados são os mesmos de uma carga sequencial.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieIngestPipeline {
+
+    private final MovieBatchWriter movieBatchWriter;
+    private final LoaderProperties loaderProperties;
+
+    /**
+     * Totais da carga e o tempo de cada fase: parse somado entre as threads (sem a espera na fila),
+     * resolução de nomes e gravação na thread do writer.
+     */
+    public record IngestResult(long rows, long skipped, long parseNanos, long resolveNanos, long persistNanos) {
+    }
+
+    private record ParsedChunk(List<MovieRecord> records, boolean last, long skipped, Exception error) {
+
+        static ParsedChunk of(List<MovieRecord> records) {
+            return new ParsedChunk(records, false, 0, null);
+        }
+
+        static ParsedChunk end(long skipped) {
+            return new ParsedChunk(List.of(), true, skipped, null);
+        }
+
+        static ParsedChunk failure(Exception error) {
+            return new ParsedChunk(List.of(), true, 0, error);
+        }
+    }
+
+    public IngestResult load(List<CsvShard> shards) throws Exception {
+        int batchSize = Math.max(1, loaderProperties.getBatchSize());
+        int queueCapacity = Math.max(1, loaderProperties.getQueueCapacity());
+        int threads = Math.max(1, Math.min(loaderProperties.getParserThreads(), shards.size()));
+
+        // Nomes repetidos entre arquivos passam a compartilhar a mesma instância de String
+        ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+        LongAdder parseNanos = new LongAdder();
+
+        List<BlockingQueue<ParsedChunk>> queues = new ArrayList<>(shards.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("movie-parser-", 0).daemon().factory());
+
+        try {
+            for (CsvShard shard : shards) {
+                BlockingQueue<ParsedChunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+                queues.add(queue);
+                executor.execute(() -> parse(shard, queue, names, batchSize, parseNanos));
+            }
+
+            movieBatchWriter.begin();
+
+            long rows = 0;
+            long skipped = 0;
+            long resolveNanos = 0;
+            long persistNanos = 0;
+            for (int i = 0; i < shards.size(); i++) {
+                BlockingQueue<ParsedChunk> queue = queues.get(i);
+                while (true) {
+                    ParsedChunk chunk = queue.take();
+                    if (chunk.error() != null) {
+                        throw new IOException("Failed to load " + shards.get(i).name(), chunk.error());
+                    }
+                    if (chunk.last()) {
+                        skipped += chunk.skipped();
+                        break;
+                    }
+
+                    long start = System.nanoTime();
+                    List<Movie> movies = resolve(chunk.records());
+                    long resolved = System.nanoTime();
+                    movieBatchWriter.write(movies);
+                    resolveNanos += resolved - start;
+                    persistNanos += System.nanoTime() - resolved;
+                    rows += chunk.records().size();
+                }
+            }
+            return new IngestResult(rows, skipped, parseNanos.sum(), resolveNanos, persistNanos);
+        } finally {
+            // Interrompe parsers ainda bloqueados na fila caso a gravação tenha falhado
+            executor.shutdownNow();
+        }
+    }
+
+    private void parse(CsvShard shard, BlockingQueue<ParsedChunk> queue, ConcurrentMap<String, String> names,
+                       int batchSize, LongAdder parseNanos) {
+        try (MovieCsvReader reader = new MovieCsvReader(shard.open(), loaderProperties.getErrorMode())) {
+            List<MovieRecord> batch = new ArrayList<>(batchSize);
+            MovieRecord record;
+            long start = System.nanoTime();
+            while ((record = reader.next()) != null) {
+                batch.add(intern(record, names));
+                if (batch.size() >= batchSize) {
+                    // Tempo medido por lote, fora do put: a espera por espaço na fila não conta como parse
+                    parseNanos.add(System.nanoTime() - start);
+                    queue.put(ParsedChunk.of(batch));
+                    batch = new ArrayList<>(batchSize);
+                    start = System.nanoTime();
+                }
+            }
+            parseNanos.add(System.nanoTime() - start);
+            if (!batch.isEmpty()) {
+                queue.put(ParsedChunk.of(batch));
+            }
+
+            for (CsvParseException error : reader.getErrors()) {
+                log.warn("Skipped invalid record in {}: {}", shard.name(), error.getMessage());
+            }
+            queue.put(ParsedChunk.end(reader.getSkippedRecords()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            try {
+                queue.put(ParsedChunk.failure(e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private MovieRecord intern(MovieRecord record, ConcurrentMap<String, String> names) {
+        return new MovieRecord(record.line(), record.year(), record.title(),
+                intern(record.studios(), names), intern(record.producers(), names), record.winner());
+    }
+
+    private List<String> intern(List<String> values, ConcurrentMap<String, String> names) {
+        List<String> interned = new ArrayList<>(values.size());
+        for (String value : values) {
+            String existing = names.putIfAbsent(value, value);
+            interned.add(existing != null ? existing : value);
+        }
+        return interned;
+    }
+
+    // Converte os registros em entidades usando o dicionário de nomes do writer
+    private List<Movie> resolve(List<MovieRecord> records) {
+        List<Movie> movies = new ArrayList<>(records.size());
+        for (MovieRecord record : records) {
+            // Variações do mesmo nome no mesmo filme resolvem para a mesma instância; o Set associa uma vez só
+            Set<Studio> studios = new LinkedHashSet<>();
+            for (String name : record.studios()) {
+                studios.add(movieBatchWriter.resolveStudio(name));
+            }
+
+            Set<Producer> producers = new LinkedHashSet<>();
+            for (String name : record.producers()) {
+                producers.add(movieBatchWriter.resolveProducer(name));
+            }
+
+            Movie movie = new Movie();
+            movie.setYearMovie(record.year());
+            movie.setTitle(record.title());
+            movie.setWinner(record.winner());
+            movie.setStudios(studios);
+            movie.setProducers(producers);
+            movie.setSource(Movie.Source.CSV);
+            movies.add(movie);
+        }
+        return movies;
+    }
+}
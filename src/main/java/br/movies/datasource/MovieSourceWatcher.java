@@ -0,0 +1,113 @@
+package br.movies.datasource;
+
+import br.movies.config.LoaderProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Com {@code movies.loader.watch=true}, observa os diretórios dos CSVs configurados e, quando algum
+ * .csv muda, aplica as diferenças pelo {@link DataLoader#reloadChanges()}. Eventos em sequência
+ * (cópia de um arquivo grande) são agrupados numa única recarga.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSourceWatcher {
+
+    private final LoaderProperties loaderProperties;
+    private final DataLoader dataLoader;
+
+    private volatile WatchService watchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!loaderProperties.isWatch()) {
+            return;
+        }
+        if (loaderProperties.getSources().isEmpty()) {
+            log.warn("movies.loader.watch requires movies.loader.sources, the classpath Movielist.csv is not watched");
+            return;
+        }
+
+        // Arquivos são observados pelo diretório onde estão
+        Set<Path> directories = new LinkedHashSet<>();
+        for (String source : loaderProperties.getSources()) {
+            Path path = Path.of(source).toAbsolutePath();
+            directories.add(Files.isDirectory(path) ? path : path.getParent());
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        Thread.ofPlatform().name("movie-source-watcher").daemon().start(this::watch);
+        log.info("Watching {} for movie source changes", directories);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        long debounceMillis = loaderProperties.getWatchDebounce().toMillis();
+        try {
+            while (true) {
+                boolean relevant = drain(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next);
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Movie source watcher stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Só .csv interessa; OVERFLOW significa eventos perdidos e também dispara a recarga
+    static boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || event.context() instanceof Path name && name.toString().toLowerCase().endsWith(".csv")) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    // Uma falha (arquivo inválido em modo strict, por exemplo) mantém os dados atuais
+    private void reload() {
+        try {
+            dataLoader.reloadChanges();
+        } catch (Exception e) {
+            log.error("Failed to reload movie sources, keeping current data", e);
+        }
+    }
+}
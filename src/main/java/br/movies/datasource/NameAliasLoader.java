@@ -0,0 +1,66 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.NameAlias;
+import br.movies.datasource.repository.NameAliasRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Carrega a tabela de apelidos a partir de um CSV {@code tipo;apelido;nome canônico}, com tipo
+ * {@code producer} ou {@code studio}. Linhas vazias e iniciadas por {@code #} são ignoradas.
+ * O conteúdo anterior da tabela é substituído.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NameAliasLoader {
+
+    private final NameAliasRepository nameAliasRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProducerStudioLookup producerStudioLookup;
+
+    public int load(Path file) throws IOException {
+        Map<String, NameAlias> aliases = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(";", -1);
+                if (fields.length != 3 || fields[1].isBlank() || fields[2].isBlank()) {
+                    throw new IllegalArgumentException(file + ":" + lineNumber + ": expected kind;alias;name");
+                }
+                NameAlias.Kind kind = NameAlias.Kind.valueOf(fields[0].trim().toUpperCase(Locale.ROOT));
+                String aliasKey = NameKeys.normalize(fields[1]);
+                String name = fields[2].trim();
+                // Apelido que normaliza para o próprio nome não precisa de registro
+                if (!aliasKey.equals(NameKeys.normalize(name))) {
+                    aliases.put(kind + ":" + aliasKey, NameAlias.builder().kind(kind).aliasKey(aliasKey).name(name).build());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            nameAliasRepository.deleteAllInBatch();
+            nameAliasRepository.saveAll(List.copyOf(aliases.values()));
+        });
+        producerStudioLookup.clear();
+        log.info("Loaded {} name aliases from {}", aliases.size(), file);
+        return aliases.size();
+    }
+}
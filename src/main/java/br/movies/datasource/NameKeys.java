@@ -0,0 +1,47 @@
+package br.movies.datasource;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Chave normalizada de nomes de produtores e estúdios: variações de caixa e de espaços
+ * ("Joel Silver", " joel  SILVER") geram a mesma chave e viram um único registro.
+ */
+public final class NameKeys {
+
+    private NameKeys() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        // NFKC só quando há caracteres fora do ASCII (formas de compatibilidade, espaços especiais)
+        String text = isAscii(name) ? name : Normalizer.normalize(name, Normalizer.Form.NFKC);
+
+        StringBuilder key = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = key.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(c);
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
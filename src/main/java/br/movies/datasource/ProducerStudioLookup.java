@@ -0,0 +1,263 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.NameAlias;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import br.movies.datasource.event.MoviesChangedEvent;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Tabela de internação de produtores e estúdios: chave normalizada ({@link NameKeys}) -> id, usada
+ * pelas gravações da API e pela recarga incremental no lugar de um findByName por nome. Apelidos
+ * cadastrados em {@link NameAlias} são trocados pelo nome canônico antes da busca. Carregada da base
+ * no primeiro uso; nomes criados numa transação só entram na tabela depois do commit, então um
+ * rollback não deixa ids inexistentes para trás. Um reload da base descarta tudo.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProducerStudioLookup {
+
+    private final EntityManager entityManager;
+
+    private final Names<Producer> producers = new Names<>(Producer.class, NameAlias.Kind.PRODUCER,
+            name -> Producer.builder().name(name).build());
+    private final Names<Studio> studios = new Names<>(Studio.class, NameAlias.Kind.STUDIO,
+            name -> Studio.builder().name(name).build());
+
+    /**
+     * Referência ao produtor com esse nome (ou variação dele), criando-o se ainda não existir.
+     * Exige uma transação ativa.
+     */
+    public Producer producer(String name) {
+        return producers.resolve(name);
+    }
+
+    public Studio studio(String name) {
+        return studios.resolve(name);
+    }
+
+    // Variações do mesmo nome na lista viram uma única associação
+    public Set<Producer> producers(List<String> names) {
+        return producers.resolveAll(names);
+    }
+
+    public Set<Studio> studios(List<String> names) {
+        return studios.resolveAll(names);
+    }
+
+    /**
+     * Chave com que o nome é internado, já considerando apelidos; iguais para nomes que viram o mesmo registro.
+     */
+    public String producerKey(String name) {
+        return producers.key(name);
+    }
+
+    public String studioKey(String name) {
+        return studios.key(name);
+    }
+
+    // Chamados pelo entity listener de Producer/Studio
+    public void producerPersisted(Producer producer) {
+        producers.persisted(producer.getNameKey(), producer.getId());
+    }
+
+    public void studioPersisted(Studio studio) {
+        studios.persisted(studio.getNameKey(), studio.getId());
+    }
+
+    public void producerRemoved(Producer producer) {
+        producers.evict(producer.getNameKey(), producer.getId());
+    }
+
+    public void studioRemoved(Studio studio) {
+        studios.evict(studio.getNameKey(), studio.getId());
+    }
+
+    @EventListener
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        // Carga completa, snapshot ou limpeza direta via JDBC: os ids conhecidos podem não existir mais
+        // e os apelidos podem ter sido recarregados
+        if (event.reload()) {
+            clear();
+        }
+    }
+
+    // Também esvazia o cache de segundo nível: linhas apagadas por JDBC não passam pelo Hibernate
+    public void clear() {
+        producers.clear();
+        studios.clear();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Producer.class);
+        cache.evict(Studio.class);
+    }
+
+    private record Table(Map<String, Long> ids, Map<String, String> aliases) {
+    }
+
+    private final class Names<T> {
+        private final Class<T> type;
+        private final NameAlias.Kind kind;
+        private final Function<String, T> factory;
+        private final Lock lock = new ReentrantLock();
+        private volatile Table table;
+
+        private Names(Class<T> type, NameAlias.Kind kind, Function<String, T> factory) {
+            this.type = type;
+            this.kind = kind;
+            this.factory = factory;
+        }
+
+        private String key(String name) {
+            String key = NameKeys.normalize(name);
+            String canonical = table().aliases().get(key);
+            return canonical != null ? NameKeys.normalize(canonical) : key;
+        }
+
+        // Mantém a ordem dos nomes; as referências são comparadas pelo id, sem inicializar proxies
+        private Set<T> resolveAll(List<String> names) {
+            Set<T> result = new LinkedHashSet<>();
+            Set<String> seen = new HashSet<>();
+            for (String name : names) {
+                if (seen.add(key(name))) {
+                    result.add(resolve(name));
+                }
+            }
+            return result;
+        }
+
+        private T resolve(String name) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                throw new IllegalStateException("Resolving " + type.getSimpleName() + " requires an active transaction");
+            }
+
+            Table current = table();
+            String key = NameKeys.normalize(name);
+            String canonical = current.aliases().get(key);
+            if (canonical != null) {
+                name = canonical;
+                key = NameKeys.normalize(canonical);
+            }
+
+            Long id = current.ids().get(key);
+            if (id == null) {
+                Pending pending = pending();
+                id = pending.ids.get(key);
+                if (id == null) {
+                    // O id vem da sequence já no persist; o INSERT sai no próximo flush, junto com o lote.
+                    // A primeira grafia vista fica como nome de exibição.
+                    T entity = factory.apply(name);
+                    entityManager.persist(entity);
+                    id = (Long) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+                    pending.ids.put(key, id);
+                }
+            }
+            // Sem SELECT: dentro da transação o Hibernate devolve a instância gerenciada ou um proxy
+            return entityManager.getReference(type, id);
+        }
+
+        // Uma consulta só com chave e id, sem carregar entidades no contexto de persistência. Lista e não
+        // stream: fora de uma transação a sessão do EntityManager compartilhado fecha ao fim da chamada
+        private Table table() {
+            Table current = table;
+            if (current != null) {
+                return current;
+            }
+            lock.lock();
+            try {
+                if (table == null) {
+                    Map<String, Long> ids = new ConcurrentHashMap<>();
+                    entityManager.createQuery("select e.nameKey, e.id from " + type.getSimpleName() + " e "
+                                    + "where e.nameKey is not null", Object[].class)
+                            .getResultList()
+                            .forEach(row -> ids.putIfAbsent((String) row[0], (Long) row[1]));
+                    Map<String, String> aliases = new HashMap<>();
+                    entityManager.createQuery("select a.aliasKey, a.name from NameAlias a where a.kind = :kind", Object[].class)
+                            .setParameter("kind", kind)
+                            .getResultList()
+                            .forEach(row -> aliases.put((String) row[0], (String) row[1]));
+                    table = new Table(ids, Map.copyOf(aliases));
+                }
+                return table;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Gravado por qualquer caminho: dentro de uma transação só vale para as outras após o commit
+        private void persisted(String key, Long id) {
+            if (key == null || id == null) {
+                return;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                pending().ids.putIfAbsent(key, id);
+            } else {
+                Table current = table;
+                if (current != null) {
+                    current.ids().putIfAbsent(key, id);
+                }
+            }
+        }
+
+        private void evict(String key, Long id) {
+            Table current = table;
+            if (current != null && key != null && id != null) {
+                current.ids().remove(key, id);
+            }
+        }
+
+        private void clear() {
+            table = null;
+        }
+
+        private Pending pending() {
+            Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                pending = new Pending(this);
+                TransactionSynchronizationManager.bindResource(this, pending);
+                TransactionSynchronizationManager.registerSynchronization(pending);
+            }
+            return pending;
+        }
+    }
+
+    // Nomes criados na transação atual; visíveis para outras só após o commit. Classe estática: como
+    // classe interna de Names<T> o cast no getResource seria para um tipo parametrizado (unchecked)
+    private static final class Pending implements TransactionSynchronization {
+        private final Names<?> names;
+        private final Map<String, Long> ids = new HashMap<>();
+
+        private Pending(Names<?> names) {
+            this.names = names;
+        }
+
+        @Override
+        public void afterCommit() {
+            Table current = names.table;
+            if (current != null) {
+                ids.forEach(current.ids()::putIfAbsent);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(names);
+        }
+    }
+}
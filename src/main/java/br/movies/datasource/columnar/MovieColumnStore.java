@@ -0,0 +1,21 @@
+package br.movies.datasource.columnar;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda a versão atual de {@link MovieColumns}. Leitores pegam a referência uma vez e trabalham
+ * sobre ela sem lock; a troca por uma nova versão é atômica.
+ */
+@Component
+public class MovieColumnStore {
+
+    private volatile MovieColumns columns = MovieColumns.EMPTY;
+
+    public MovieColumns current() {
+        return columns;
+    }
+
+    public void replace(MovieColumns columns) {
+        this.columns = columns;
+    }
+}
@@ -0,0 +1,94 @@
+package br.movies.datasource.columnar;
+
+import br.movies.datasource.event.MoviesChangedEvent;
+import br.movies.datasource.projection.MovieLinkView;
+import br.movies.datasource.projection.MovieRowView;
+import br.movies.datasource.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class MovieColumnStoreUpdater {
+
+    private final MovieRepository movieRepository;
+    private final MovieColumnStore movieColumnStore;
+    private final YearAggregateIndex yearAggregateIndex;
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private final Lock lock = new ReentrantLock();
+
+    // Os arrays são compactos e imutáveis, então qualquer alteração gera uma cópia nova e troca a
+    // referência; leituras em andamento continuam na versão anterior. Num reload a cópia é remontada
+    // com três consultas em streaming; em alterações pontuais as linhas inalteradas vêm da cópia atual
+    // e só os filmes afetados são relidos da base. Os agregados por ano acompanham cada troca ainda
+    // dentro do lock, comparando a versão anterior com a nova.
+    @EventListener
+    @Order(1)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        lock.lock();
+        try {
+            if (event.reload()) {
+                MovieColumns columns = rebuild();
+                movieColumnStore.replace(columns);
+                yearAggregateIndex.rebuild(columns);
+            } else {
+                MovieColumns previous = movieColumnStore.current();
+                MovieColumns columns = patch(event.movieIds());
+                movieColumnStore.replace(columns);
+                yearAggregateIndex.update(previous, columns, event.movieIds());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MovieColumns rebuild() {
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        try (Stream<MovieRowView> rows = movieRepository.streamMovieRows()) {
+            rows.forEach(row -> addMovie(builder, row));
+        }
+        try (Stream<MovieLinkView> links = movieRepository.streamProducerLinks()) {
+            links.forEach(link -> builder.addProducer(link.getMovieId(), link.getLinkId(), link.getLinkName()));
+        }
+        try (Stream<MovieLinkView> links = movieRepository.streamStudioLinks()) {
+            links.forEach(link -> builder.addStudio(link.getMovieId(), link.getLinkId(), link.getLinkName()));
+        }
+        return builder.build();
+    }
+
+    private MovieColumns patch(Set<Long> movieIds) {
+        MovieColumns.Builder builder = movieColumnStore.current().toBuilder(movieIds);
+        List<Long> ids = new ArrayList<>(movieIds);
+        for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + IDS_PER_QUERY));
+            // Filmes removidos não voltam nas consultas e ficam de fora da nova cópia
+            movieRepository.findMovieRowsByIds(chunk).forEach(row -> addMovie(builder, row));
+            movieRepository.findProducerLinksByMovieIds(chunk)
+                    .forEach(link -> builder.addProducer(link.getMovieId(), link.getLinkId(), link.getLinkName()));
+            movieRepository.findStudioLinksByMovieIds(chunk)
+                    .forEach(link -> builder.addStudio(link.getMovieId(), link.getLinkId(), link.getLinkName()));
+        }
+        return builder.build();
+    }
+
+    // Filmes sem ano ficam de fora: não entram em intervalos nem em filtros por ano
+    private static void addMovie(MovieColumns.Builder builder, MovieRowView row) {
+        if (row.getYearMovie() != null) {
+            builder.addMovie(row.getId(), row.getYearMovie(), row.getTitle(), Boolean.TRUE.equals(row.getWinner()));
+        }
+    }
+}
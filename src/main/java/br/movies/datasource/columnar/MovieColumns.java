@@ -0,0 +1,556 @@
+package br.movies.datasource.columnar;
+
+import br.movies.datasource.NameKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cópia somente leitura dos filmes em colunas. Cada filme é uma linha (ordenada por id): ano num
+ * int[], vencedores num BitSet, títulos, produtores e estúdios codificados em dicionários e as
+ * associações filme -> produtor/estúdio em arrays de adjacência (CSR). Também guarda, por produtor,
+ * as vitórias já ordenadas por ano e índices ordenados (chave do nome, id e número de vitórias)
+ * para consultas por produtor em O(log n). Uma instância nunca muda; alterações geram uma nova.
+ */
+public final class MovieColumns {
+
+    public static final MovieColumns EMPTY = new Builder().build();
+
+    private final long[] ids;
+    private final int[] years;
+    private final BitSet winners;
+    private final int[] titleCodes;
+    private final String[] titles;
+
+    private final Dictionary producers;
+    private final int[] producerOffsets;
+    private final int[] producerCodes;
+
+    private final Dictionary studios;
+    private final int[] studioOffsets;
+    private final int[] studioCodes;
+
+    // Anos de vitória de cada produtor: winYears[winOffsets[p] .. winOffsets[p + 1]) em ordem crescente
+    private final int[] winOffsets;
+    private final int[] winYears;
+    // Linha do filme vencedor de cada posição de winYears
+    private final int[] winRows;
+    private final int[] producerMovieCounts;
+
+    // Linhas vencedoras em ordem de ano (e de id no mesmo ano)
+    private final int[] winnersByYear;
+
+    // Códigos dos produtores ordenados pela chave normalizada (busca por prefixo), pelo id e por vitórias
+    private final String[] sortedProducerKeys;
+    private final int[] producersByKey;
+    private final long[] sortedProducerIds;
+    private final int[] producersById;
+    private final int[] producersByWins;
+
+    private MovieColumns(Builder builder, int[] order) {
+        int size = order.length;
+        this.ids = new long[size];
+        this.years = new int[size];
+        this.titleCodes = new int[size];
+        this.winners = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            int source = order[row];
+            ids[row] = builder.movieIds[source];
+            years[row] = builder.years[source];
+            titleCodes[row] = builder.titleCodes[source];
+            if (builder.winners.get(source)) {
+                winners.set(row);
+            }
+        }
+        this.titles = builder.titles.toArray(new String[0]);
+
+        MovieColumns previous = builder.previous;
+        this.producers = builder.producers.build(previous != null ? previous.producers : null);
+        this.producerOffsets = new int[size + 1];
+        this.producerCodes = builder.producerLinks.toCsr(ids, producerOffsets);
+
+        this.studios = builder.studios.build(previous != null ? previous.studios : null);
+        this.studioOffsets = new int[size + 1];
+        this.studioCodes = builder.studioLinks.toCsr(ids, studioOffsets);
+
+        this.winOffsets = new int[producers.size() + 1];
+        long[] wins = buildWins();
+        this.winYears = new int[wins.length];
+        this.winRows = new int[wins.length];
+        for (int i = 0; i < wins.length; i++) {
+            winYears[i] = (int) (wins[i] >> 32);
+            winRows[i] = (int) wins[i];
+        }
+        this.winnersByYear = buildWinnersByYear();
+        this.producerMovieCounts = new int[producers.size()];
+        for (int code : producerCodes) {
+            producerMovieCounts[code]++;
+        }
+
+        if (previous != null && previous.producers == producers) {
+            // Mesmo dicionário da versão anterior: as ordens por id e por chave não mudam
+            this.producersById = previous.producersById;
+            this.sortedProducerIds = previous.sortedProducerIds;
+            this.producersByKey = previous.producersByKey;
+            this.sortedProducerKeys = previous.sortedProducerKeys;
+        } else {
+            this.sortedProducerIds = producers.ids.clone();
+            Arrays.sort(sortedProducerIds);
+            this.producersById = codesById(producers.ids, sortedProducerIds);
+            this.producersByKey = codesByKey(producers.keys, producersById);
+            this.sortedProducerKeys = new String[producersByKey.length];
+            for (int i = 0; i < producersByKey.length; i++) {
+                sortedProducerKeys[i] = producers.keys[producersByKey[i]];
+            }
+        }
+        this.producersByWins = codesByWins(producersByKey);
+    }
+
+    // Os ids são únicos no dicionário: a posição de cada código na ordem por id sai de uma busca binária
+    private static int[] codesById(long[] ids, long[] sortedIds) {
+        int[] result = new int[ids.length];
+        for (int code = 0; code < ids.length; code++) {
+            result[Arrays.binarySearch(sortedIds, ids[code])] = code;
+        }
+        return result;
+    }
+
+    // Ordem pela chave e, no empate, pelo id: posto da chave << 32 | posição do código na ordem por id
+    private static int[] codesByKey(String[] keys, int[] byId) {
+        String[] distinct = keys.clone();
+        Arrays.sort(distinct);
+        int count = 0;
+        for (String key : distinct) {
+            if (count == 0 || !distinct[count - 1].equals(key)) {
+                distinct[count++] = key;
+            }
+        }
+
+        long[] packed = new long[byId.length];
+        for (int i = 0; i < byId.length; i++) {
+            packed[i] = (long) Arrays.binarySearch(distinct, 0, count, keys[byId[i]]) << 32 | i;
+        }
+        Arrays.sort(packed);
+        int[] result = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            result[i] = byId[(int) packed[i]];
+        }
+        return result;
+    }
+
+    // Mais vitórias primeiro e, no empate, a ordem por chave: (MAX - vitórias) << 32 | posição na ordem por chave
+    private int[] codesByWins(int[] byKey) {
+        long[] packed = new long[byKey.length];
+        for (int i = 0; i < byKey.length; i++) {
+            int code = byKey[i];
+            packed[i] = (long) (Integer.MAX_VALUE - (winOffsets[code + 1] - winOffsets[code])) << 32 | i;
+        }
+        Arrays.sort(packed);
+        int[] result = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            result[i] = byKey[(int) packed[i]];
+        }
+        return result;
+    }
+
+    private int[] buildWinnersByYear() {
+        long[] packed = new long[winners.cardinality()];
+        int next = 0;
+        for (int row = winners.nextSetBit(0); row >= 0; row = winners.nextSetBit(row + 1)) {
+            packed[next++] = (long) years[row] << 32 | row;
+        }
+        Arrays.sort(packed);
+        int[] result = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            result[i] = (int) packed[i];
+        }
+        return result;
+    }
+
+    // Vitórias agrupadas por produtor (counting sort) como ano << 32 | linha, ordenadas por ano em cada grupo
+    private long[] buildWins() {
+        for (int row = winners.nextSetBit(0); row >= 0; row = winners.nextSetBit(row + 1)) {
+            for (int i = producerOffsets[row]; i < producerOffsets[row + 1]; i++) {
+                winOffsets[producerCodes[i] + 1]++;
+            }
+        }
+        for (int p = 0; p < producers.size(); p++) {
+            winOffsets[p + 1] += winOffsets[p];
+        }
+
+        long[] result = new long[winOffsets[producers.size()]];
+        int[] next = Arrays.copyOf(winOffsets, producers.size());
+        for (int row = winners.nextSetBit(0); row >= 0; row = winners.nextSetBit(row + 1)) {
+            for (int i = producerOffsets[row]; i < producerOffsets[row + 1]; i++) {
+                result[next[producerCodes[i]]++] = (long) years[row] << 32 | row;
+            }
+        }
+        for (int p = 0; p < producers.size(); p++) {
+            Arrays.sort(result, winOffsets[p], winOffsets[p + 1]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    // Linha do filme ou -1 se não existir
+    public int rowOf(long id) {
+        int row = Arrays.binarySearch(ids, id);
+        return row >= 0 ? row : -1;
+    }
+
+    public int year(int row) {
+        return years[row];
+    }
+
+    public String title(int row) {
+        return titles[titleCodes[row]];
+    }
+
+    public boolean winner(int row) {
+        return winners.get(row);
+    }
+
+    // Próxima linha vencedora a partir de fromRow, ou -1
+    public int nextWinner(int fromRow) {
+        return winners.nextSetBit(fromRow);
+    }
+
+    public int winnerCount() {
+        return winnersByYear.length;
+    }
+
+    // Linha do index-ésimo vencedor em ordem de ano, 0 <= index < winnerCount()
+    public int winnerByYear(int index) {
+        return winnersByYear[index];
+    }
+
+    public int producerCount() {
+        return producers.size();
+    }
+
+    public String producerName(int code) {
+        return producers.names[code];
+    }
+
+    public long producerId(int code) {
+        return producers.ids[code];
+    }
+
+    // Código do produtor com esse nome (ignorando caixa e espaços extras) ou -1
+    public int producerCode(String name) {
+        return producers.codeOf(name);
+    }
+
+    // Código do produtor com esse id ou -1
+    public int producerCodeById(long id) {
+        int index = Arrays.binarySearch(sortedProducerIds, id);
+        return index >= 0 ? producersById[index] : -1;
+    }
+
+    /**
+     * Códigos dos produtores cujo nome normalizado começa com {@code prefix}, em ordem alfabética e
+     * limitados a {@code limit}: busca binária no array de chaves ordenadas e leitura sequencial.
+     */
+    public int[] producersWithPrefix(String prefix, int limit) {
+        String key = NameKeys.normalize(prefix);
+        int low = 0;
+        int high = sortedProducerKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedProducerKeys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int end = low;
+        while (end < sortedProducerKeys.length && end - low < limit && sortedProducerKeys[end].startsWith(key)) {
+            end++;
+        }
+        return Arrays.copyOfRange(producersByKey, low, end);
+    }
+
+    // Produtor na posição rank do ranking por vitórias (mais vitórias primeiro, empates pelo nome)
+    public int producerByWinRank(int rank) {
+        return producersByWins[rank];
+    }
+
+    // Filmes do produtor, vencedores ou não
+    public int producerMovieCount(int code) {
+        return producerMovieCounts[code];
+    }
+
+    public int producerStart(int row) {
+        return producerOffsets[row];
+    }
+
+    public int producerEnd(int row) {
+        return producerOffsets[row + 1];
+    }
+
+    public int producerAt(int index) {
+        return producerCodes[index];
+    }
+
+    public int studioCount() {
+        return studios.size();
+    }
+
+    public String studioName(int code) {
+        return studios.names[code];
+    }
+
+    public long studioId(int code) {
+        return studios.ids[code];
+    }
+
+    public int studioCode(String name) {
+        return studios.codeOf(name);
+    }
+
+    public int studioStart(int row) {
+        return studioOffsets[row];
+    }
+
+    public int studioEnd(int row) {
+        return studioOffsets[row + 1];
+    }
+
+    public int studioAt(int index) {
+        return studioCodes[index];
+    }
+
+    public int winStart(int producer) {
+        return winOffsets[producer];
+    }
+
+    public int winEnd(int producer) {
+        return winOffsets[producer + 1];
+    }
+
+    // Total de vitórias somadas por produtor (um filme com dois produtores conta duas vezes)
+    public int winYearCount() {
+        return winYears.length;
+    }
+
+    public int winYear(int index) {
+        return winYears[index];
+    }
+
+    public int winRow(int index) {
+        return winRows[index];
+    }
+
+    /**
+     * Builder já preenchido com todas as linhas desta cópia, exceto os filmes em {@code excludedIds};
+     * usado para aplicar alterações pontuais sem reler a base inteira.
+     */
+    public Builder toBuilder(Set<Long> excludedIds) {
+        Builder builder = new Builder();
+        builder.previous = this;
+        for (int row = 0; row < ids.length; row++) {
+            long id = ids[row];
+            if (excludedIds.contains(id)) {
+                continue;
+            }
+            builder.addMovie(id, years[row], title(row), winners.get(row));
+            for (int i = producerOffsets[row]; i < producerOffsets[row + 1]; i++) {
+                int code = producerCodes[i];
+                builder.addProducer(id, producers.ids[code], producers.names[code]);
+            }
+            for (int i = studioOffsets[row]; i < studioOffsets[row + 1]; i++) {
+                int code = studioCodes[i];
+                builder.addStudio(id, studios.ids[code], studios.names[code]);
+            }
+        }
+        return builder;
+    }
+
+    private static final class Dictionary {
+        private final long[] ids;
+        private final String[] names;
+        private final String[] keys;
+        private final Map<String, Integer> codeByName;
+
+        private Dictionary(long[] ids, String[] names) {
+            this.ids = ids;
+            this.names = names;
+            this.keys = new String[names.length];
+            this.codeByName = new HashMap<>(names.length * 2);
+            for (int code = 0; code < names.length; code++) {
+                keys[code] = NameKeys.normalize(names[code]);
+                codeByName.putIfAbsent(keys[code], code);
+            }
+        }
+
+        private int size() {
+            return names.length;
+        }
+
+        private int codeOf(String name) {
+            Integer code = codeByName.get(NameKeys.normalize(name));
+            return code != null ? code : -1;
+        }
+    }
+
+    private static final class DictionaryBuilder {
+        private final Map<Long, Integer> codeById = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private long[] ids = new long[64];
+
+        private int code(long id, String name) {
+            return codeById.computeIfAbsent(id, key -> {
+                int code = names.size();
+                if (code == ids.length) {
+                    ids = Arrays.copyOf(ids, code * 2);
+                }
+                ids[code] = key;
+                names.add(name);
+                return code;
+            });
+        }
+
+        // Reaproveita o dicionário anterior (chaves, mapa de nomes e as ordens derivadas) quando nada mudou
+        private Dictionary build(Dictionary previous) {
+            long[] builtIds = Arrays.copyOf(ids, names.size());
+            String[] builtNames = names.toArray(new String[0]);
+            if (previous != null && Arrays.equals(previous.ids, builtIds) && Arrays.equals(previous.names, builtNames)) {
+                return previous;
+            }
+            return new Dictionary(builtIds, builtNames);
+        }
+    }
+
+    private static final class LinkBuilder {
+        private long[] movieIds = new long[1024];
+        private int[] codes = new int[1024];
+        private int size;
+
+        private void add(long movieId, int code) {
+            if (size == movieIds.length) {
+                movieIds = Arrays.copyOf(movieIds, size * 2);
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            movieIds[size] = movieId;
+            codes[size] = code;
+            size++;
+        }
+
+        // Agrupa os códigos pela linha do filme (counting sort), mantendo a ordem de chegada em cada linha
+        private int[] toCsr(long[] sortedIds, int[] offsets) {
+            int[] rows = new int[size];
+            for (int i = 0; i < size; i++) {
+                rows[i] = Arrays.binarySearch(sortedIds, movieIds[i]);
+                if (rows[i] >= 0) {
+                    offsets[rows[i] + 1]++;
+                }
+            }
+            for (int row = 0; row < sortedIds.length; row++) {
+                offsets[row + 1] += offsets[row];
+            }
+
+            int[] result = new int[offsets[sortedIds.length]];
+            int[] next = Arrays.copyOf(offsets, sortedIds.length);
+            for (int i = 0; i < size; i++) {
+                if (rows[i] >= 0) {
+                    result[next[rows[i]]++] = codes[i];
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Recebe filmes e associações em qualquer ordem; associações de filmes desconhecidos são ignoradas.
+     */
+    public static final class Builder {
+        private long[] movieIds = new long[1024];
+        private int[] years = new int[1024];
+        private int[] titleCodes = new int[1024];
+        private final BitSet winners = new BitSet();
+        private int size;
+
+        private final Map<String, Integer> titleCodeByName = new HashMap<>();
+        private final List<String> titles = new ArrayList<>();
+
+        private final DictionaryBuilder producers = new DictionaryBuilder();
+        private final DictionaryBuilder studios = new DictionaryBuilder();
+        private final LinkBuilder producerLinks = new LinkBuilder();
+        private final LinkBuilder studioLinks = new LinkBuilder();
+        // Versão de origem do toBuilder, para reaproveitar os dicionários
+        private MovieColumns previous;
+
+        public Builder addMovie(long id, int year, String title, boolean winner) {
+            if (size == movieIds.length) {
+                movieIds = Arrays.copyOf(movieIds, size * 2);
+                years = Arrays.copyOf(years, size * 2);
+                titleCodes = Arrays.copyOf(titleCodes, size * 2);
+            }
+            movieIds[size] = id;
+            years[size] = year;
+            titleCodes[size] = titleCodeByName.computeIfAbsent(title, t -> {
+                titles.add(t);
+                return titles.size() - 1;
+            });
+            if (winner) {
+                winners.set(size);
+            }
+            size++;
+            return this;
+        }
+
+        public Builder addProducer(long movieId, long producerId, String name) {
+            producerLinks.add(movieId, producers.code(producerId, name));
+            return this;
+        }
+
+        public Builder addStudio(long movieId, long studioId, String name) {
+            studioLinks.add(movieId, studios.code(studioId, name));
+            return this;
+        }
+
+        public MovieColumns build() {
+            return new MovieColumns(this, sortedOrder());
+        }
+
+        // Posições de origem em ordem de id; a carga normalmente já chega ordenada
+        private int[] sortedOrder() {
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++) {
+                sorted = movieIds[i - 1] < movieIds[i];
+            }
+
+            int[] order = new int[size];
+            if (sorted) {
+                Arrays.setAll(order, i -> i);
+                return order;
+            }
+            // Posto do id << 32 | posição: ids repetidos têm o mesmo posto (a busca binária é determinística)
+            // e ficam na ordem de chegada
+            long[] sortedIds = Arrays.copyOf(movieIds, size);
+            Arrays.sort(sortedIds);
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = (long) Arrays.binarySearch(sortedIds, movieIds[i]) << 32 | i;
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < size; i++) {
+                order[i] = (int) packed[i];
+            }
+            return order;
+        }
+    }
+}
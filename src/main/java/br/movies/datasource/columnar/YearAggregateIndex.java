@@ -0,0 +1,131 @@
+package br.movies.datasource.columnar;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Mantém os {@link YearAggregates} junto com a cópia colunar. Guarda as contagens de vencedores por
+ * ano e uma matriz de diferenças 2D com a contribuição de cada produtor para a tabela de produtores
+ * distintos: numa alteração pontual só os filmes afetados e os seus produtores são descontados da
+ * versão anterior e somados da nova, sem reler o catálogo. Um ano vencedor ainda desconhecido ou um
+ * reload remontam tudo. Chamado pelo {@link MovieColumnStoreUpdater} dentro do lock dele, então as
+ * versões chegam em ordem e sem concorrência.
+ */
+@Component
+public class YearAggregateIndex {
+
+    private int[] years = new int[0];
+    private int[] winners = new int[0];
+    // (years + 1)² posições: a linha e a coluna extras recebem o fim de cada retângulo
+    private int[] difference = new int[1];
+
+    private volatile YearAggregates aggregates = YearAggregates.EMPTY;
+
+    public YearAggregates current() {
+        return aggregates;
+    }
+
+    public void rebuild(MovieColumns columns) {
+        int[] allYears = new int[columns.winnerCount()];
+        for (int i = 0; i < allYears.length; i++) {
+            allYears[i] = columns.year(columns.winnerByYear(i));
+        }
+        // Vencedores já vêm em ordem de ano: basta tirar as repetições
+        years = Arrays.stream(allYears).distinct().toArray();
+        winners = new int[years.length];
+        difference = new int[(years.length + 1) * (years.length + 1)];
+
+        for (int i = 0; i < allYears.length; i++) {
+            winners[Arrays.binarySearch(years, allYears[i])]++;
+        }
+        for (int code = 0; code < columns.producerCount(); code++) {
+            addProducer(columns, code, 1);
+        }
+        publish();
+    }
+
+    /**
+     * Aplica a diferença entre {@code previous} e {@code next} para os filmes em {@code movieIds}.
+     */
+    public void update(MovieColumns previous, MovieColumns next, Set<Long> movieIds) {
+        Set<Long> producerIds = new HashSet<>();
+        for (long id : movieIds) {
+            int row = next.rowOf(id);
+            if (row >= 0 && next.winner(row) && Arrays.binarySearch(years, next.year(row)) < 0) {
+                rebuild(next);
+                return;
+            }
+            collectProducers(previous, previous.rowOf(id), producerIds);
+            collectProducers(next, row, producerIds);
+        }
+
+        for (long id : movieIds) {
+            int before = previous.rowOf(id);
+            if (before >= 0 && previous.winner(before)) {
+                winners[Arrays.binarySearch(years, previous.year(before))]--;
+            }
+            int after = next.rowOf(id);
+            if (after >= 0 && next.winner(after)) {
+                winners[Arrays.binarySearch(years, next.year(after))]++;
+            }
+        }
+        for (long producerId : producerIds) {
+            addProducer(previous, previous.producerCodeById(producerId), -1);
+            addProducer(next, next.producerCodeById(producerId), 1);
+        }
+        publish();
+    }
+
+    private static void collectProducers(MovieColumns columns, int row, Set<Long> producerIds) {
+        if (row < 0) {
+            return;
+        }
+        for (int i = columns.producerStart(row); i < columns.producerEnd(row); i++) {
+            producerIds.add(columns.producerId(columns.producerAt(i)));
+        }
+    }
+
+    // Com anos vencedores w1 < w2 < ... o produtor conta para todo (de, até) com algum wi no meio:
+    // retângulos de = (w(i-1), wi], até = [wi, fim), disjuntos nas linhas
+    private void addProducer(MovieColumns columns, int code, int sign) {
+        if (code < 0) {
+            return;
+        }
+        int size = years.length + 1;
+        int previousIndex = -1;
+        for (int i = columns.winStart(code); i < columns.winEnd(code); i++) {
+            int index = Arrays.binarySearch(years, columns.winYear(i));
+            if (index == previousIndex) {
+                continue;
+            }
+            difference[(previousIndex + 1) * size + index] += sign;
+            difference[(index + 1) * size + index] -= sign;
+            previousIndex = index;
+        }
+    }
+
+    // Somas de prefixo das contagens e da matriz de diferenças; O(anos²), independente do catálogo
+    private void publish() {
+        int count = years.length;
+        int[] prefix = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            prefix[i + 1] = prefix[i] + winners[i];
+        }
+
+        int size = count + 1;
+        int[] distinct = new int[count * count];
+        int[] column = new int[count];
+        for (int from = 0; from < count; from++) {
+            int row = 0;
+            for (int to = 0; to < count; to++) {
+                row += difference[from * size + to];
+                column[to] += row;
+                distinct[from * count + to] = column[to];
+            }
+        }
+        aggregates = new YearAggregates(years.clone(), prefix, distinct);
+    }
+}
@@ -0,0 +1,73 @@
+package br.movies.datasource.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Agregados por ano de vitória, imutáveis: anos com vencedores em ordem, soma de prefixos dos
+ * vencedores e uma tabela densa (ano inicial x ano final) com o número de produtores distintos que
+ * venceram no intervalo. Uma consulta por faixa de anos é uma busca binária nos anos mais uma ou duas
+ * leituras de array. A tabela ocupa anos² inteiros, pouco para o intervalo de anos de um catálogo.
+ */
+public final class YearAggregates {
+
+    public static final YearAggregates EMPTY = new YearAggregates(new int[0], new int[0], new int[0]);
+
+    private final int[] years;
+    // winnerPrefix[i] = vencedores nos anos years[0..i-1]
+    private final int[] winnerPrefix;
+    // distinctProducers[from * years.length + to] para from <= to
+    private final int[] distinctProducers;
+
+    YearAggregates(int[] years, int[] winnerPrefix, int[] distinctProducers) {
+        this.years = years;
+        this.winnerPrefix = winnerPrefix;
+        this.distinctProducers = distinctProducers;
+    }
+
+    // Quantidade de anos com (ou que já tiveram) vencedores
+    public int yearCount() {
+        return years.length;
+    }
+
+    public int year(int index) {
+        return years[index];
+    }
+
+    public int winnersAt(int index) {
+        return winnerPrefix[index + 1] - winnerPrefix[index];
+    }
+
+    public int producersAt(int index) {
+        return distinctProducers[index * years.length + index];
+    }
+
+    /**
+     * Filmes vencedores com ano entre {@code fromYear} e {@code toYear}, inclusive.
+     */
+    public int winners(int fromYear, int toYear) {
+        int from = fromIndex(fromYear);
+        int to = toIndex(toYear);
+        return from > to ? 0 : winnerPrefix[to + 1] - winnerPrefix[from];
+    }
+
+    /**
+     * Produtores distintos com pelo menos uma vitória entre {@code fromYear} e {@code toYear}, inclusive.
+     */
+    public int distinctProducers(int fromYear, int toYear) {
+        int from = fromIndex(fromYear);
+        int to = toIndex(toYear);
+        return from > to ? 0 : distinctProducers[from * years.length + to];
+    }
+
+    // Primeiro índice com ano >= year
+    int fromIndex(int year) {
+        int index = Arrays.binarySearch(years, year);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Último índice com ano <= year
+    int toIndex(int year) {
+        int index = Arrays.binarySearch(years, year);
+        return index >= 0 ? index : -index - 2;
+    }
+}
@@ -0,0 +1,8 @@
+package br.movies.datasource.csv;
+
+public enum CsvErrorMode {
+    // Interrompe a leitura na primeira linha inválida
+    STRICT,
+    // Descarta a linha inválida e registra o erro com o número da linha
+    LENIENT
+}
@@ -0,0 +1,14 @@
+package br.movies.datasource.csv;
+
+import lombok.Getter;
+
+@Getter
+public class CsvParseException extends RuntimeException {
+
+    private final long line;
+
+    public CsvParseException(long line, String message) {
+        super("Line " + line + ": " + message);
+        this.line = line;
+    }
+}
@@ -0,0 +1,351 @@
+package br.movies.datasource.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Leitor de CSV (year;title;studios;producers;winner) que percorre os bytes do canal
+ * procurando os delimitadores, sem split nem regex. A memória usada é limitada ao buffer
+ * de leitura mais o maior registro aceito, independente do tamanho do arquivo.
+ */
+public class MovieCsvReader implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_RECORD_BYTES = 1024 * 1024;
+
+    private static final int MAX_FIELDS = 8;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final byte DELIMITER = ';';
+    private static final byte QUOTE = '"';
+    private static final byte LIST_SEPARATOR = ',';
+
+    private final ReadableByteChannel channel;
+    private final CsvErrorMode errorMode;
+    private final int maxRecordBytes;
+    private final ByteBuffer input;
+
+    // Bytes do registro atual (sem aspas) e os spans de cada campo
+    private byte[] record;
+    private int recordLength;
+    private final int[] fieldStart = new int[MAX_FIELDS];
+    private final int[] fieldEnd = new int[MAX_FIELDS];
+    private int fieldCount;
+    private boolean overflow;
+
+    private long lineNumber = 1;
+    private long recordLine;
+    private boolean headerSkipped;
+    private boolean endOfInput;
+
+    private long skippedRecords;
+    private final List<CsvParseException> errors = new ArrayList<>();
+
+    public MovieCsvReader(ReadableByteChannel channel, CsvErrorMode errorMode) {
+        this(channel, errorMode, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_RECORD_BYTES);
+    }
+
+    public MovieCsvReader(ReadableByteChannel channel, CsvErrorMode errorMode, int bufferSize, int maxRecordBytes) {
+        this.channel = channel;
+        this.errorMode = errorMode;
+        this.maxRecordBytes = maxRecordBytes;
+        this.record = new byte[Math.min(256, maxRecordBytes)];
+        this.input = ByteBuffer.allocateDirect(bufferSize);
+        this.input.flip();
+    }
+
+    public static MovieCsvReader open(Path path, CsvErrorMode errorMode) throws IOException {
+        return new MovieCsvReader(FileChannel.open(path, StandardOpenOption.READ), errorMode);
+    }
+
+    /**
+     * Retorna o próximo filme do arquivo ou {@code null} no fim do canal. A primeira linha
+     * (cabeçalho) e linhas em branco são ignoradas.
+     */
+    public MovieRecord next() throws IOException {
+        while (readRecord()) {
+            if (!headerSkipped) {
+                headerSkipped = true;
+                continue;
+            }
+            if (fieldCount == 1 && isBlank(0)) {
+                continue;
+            }
+
+            try {
+                return toMovieRecord();
+            } catch (CsvParseException e) {
+                if (errorMode == CsvErrorMode.STRICT) {
+                    throw e;
+                }
+                skippedRecords++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    public long getSkippedRecords() {
+        return skippedRecords;
+    }
+
+    public List<CsvParseException> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Lê um registro completo (até '\n' fora de aspas) preenchendo os spans dos campos
+    private boolean readRecord() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        overflow = false;
+        recordLine = lineNumber;
+
+        boolean quoted = false;
+        boolean afterQuote = false;
+        boolean fieldHasData = false;
+        boolean readAny = false;
+        fieldStart[0] = 0;
+
+        while (true) {
+            if (!input.hasRemaining() && !fill()) {
+                if (!readAny) {
+                    return false;
+                }
+                endField();
+                return true;
+            }
+
+            byte b = input.get();
+            readAny = true;
+
+            if (quoted) {
+                if (b == QUOTE) {
+                    quoted = false;
+                    afterQuote = true;
+                    continue;
+                }
+                if (b == '\n') {
+                    lineNumber++;
+                }
+                append(b);
+                continue;
+            }
+
+            if (b == QUOTE) {
+                // "" dentro de um campo entre aspas representa uma aspa literal
+                if (afterQuote) {
+                    append(QUOTE);
+                    quoted = true;
+                    afterQuote = false;
+                    continue;
+                }
+                if (!fieldHasData) {
+                    quoted = true;
+                    fieldHasData = true;
+                    continue;
+                }
+            }
+            afterQuote = false;
+
+            if (b == '\n') {
+                lineNumber++;
+                endField();
+                return true;
+            }
+            if (b == DELIMITER) {
+                endField();
+                fieldHasData = false;
+                continue;
+            }
+            if (b == '\r') {
+                continue;
+            }
+            if (b != ' ' && b != '\t') {
+                fieldHasData = true;
+            }
+            append(b);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        input.clear();
+        int read;
+        do {
+            read = channel.read(input);
+        } while (read == 0);
+        input.flip();
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        return true;
+    }
+
+    private void append(byte b) {
+        if (recordLength == record.length) {
+            if (record.length >= maxRecordBytes) {
+                overflow = true;
+                return;
+            }
+            byte[] grown = new byte[Math.min(maxRecordBytes, record.length * 2)];
+            System.arraycopy(record, 0, grown, 0, recordLength);
+            record = grown;
+        }
+        record[recordLength++] = b;
+    }
+
+    private void endField() {
+        if (fieldCount < MAX_FIELDS) {
+            fieldEnd[fieldCount] = recordLength;
+        }
+        fieldCount++;
+        if (fieldCount < MAX_FIELDS) {
+            fieldStart[fieldCount] = recordLength;
+        }
+    }
+
+    private MovieRecord toMovieRecord() {
+        if (overflow) {
+            throw new CsvParseException(recordLine, "record exceeds " + maxRecordBytes + " bytes");
+        }
+        if (fieldCount < 4) {
+            throw new CsvParseException(recordLine, "expected at least 4 fields but found " + fieldCount);
+        }
+
+        int year = parseYear();
+        String title = decode(fieldStart[1], fieldEnd[1]);
+        if (title.isEmpty()) {
+            throw new CsvParseException(recordLine, "title is empty");
+        }
+
+        List<String> studios = new ArrayList<>(2);
+        splitList(fieldStart[2], fieldEnd[2], false, studios);
+
+        List<String> producers = new ArrayList<>(2);
+        splitList(fieldStart[3], fieldEnd[3], true, producers);
+
+        boolean winner = fieldCount > 4 && isYes(fieldStart[4], fieldEnd[4]);
+
+        return new MovieRecord(recordLine, year, title, studios, producers, winner);
+    }
+
+    private int parseYear() {
+        int start = skipSpaces(fieldStart[0], fieldEnd[0]);
+        int end = trimEnd(start, fieldEnd[0]);
+        if (start == end || end - start > 9) {
+            throw new CsvParseException(recordLine, "invalid year '" + decode(fieldStart[0], fieldEnd[0]) + "'");
+        }
+
+        int year = 0;
+        for (int i = start; i < end; i++) {
+            int digit = record[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new CsvParseException(recordLine, "invalid year '" + decode(fieldStart[0], fieldEnd[0]) + "'");
+            }
+            year = year * 10 + digit;
+        }
+        return year;
+    }
+
+    /**
+     * Separa uma lista de nomes por "," e, no caso de produtores, também por " and "
+     * ("Produtor A, Produtor B and Produtor C").
+     */
+    private void splitList(int start, int end, boolean splitOnAnd, List<String> target) {
+        int tokenStart = start;
+        int i = start;
+        while (i < end) {
+            byte b = record[i];
+            if (b == LIST_SEPARATOR) {
+                addName(tokenStart, i, target);
+                tokenStart = ++i;
+            } else if (splitOnAnd && isSpace(b)) {
+                int next = matchAnd(i, end);
+                if (next > 0) {
+                    addName(tokenStart, i, target);
+                    tokenStart = i = next;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        addName(tokenStart, end, target);
+    }
+
+    // Se em 'from' começa "<espaços>and<espaços>", retorna a posição após os espaços finais
+    private int matchAnd(int from, int end) {
+        int i = skipSpaces(from, end);
+        if (i == from || i + 3 >= end
+                || record[i] != 'a' || record[i + 1] != 'n' || record[i + 2] != 'd'
+                || !isSpace(record[i + 3])) {
+            return -1;
+        }
+        return skipSpaces(i + 3, end);
+    }
+
+    private void addName(int start, int end, List<String> target) {
+        start = skipSpaces(start, end);
+        end = trimEnd(start, end);
+        if (start < end) {
+            target.add(new String(record, start, end - start, StandardCharsets.UTF_8));
+        }
+    }
+
+    private boolean isYes(int start, int end) {
+        start = skipSpaces(start, end);
+        end = trimEnd(start, end);
+        return end - start == 3
+                && (record[start] | 0x20) == 'y'
+                && (record[start + 1] | 0x20) == 'e'
+                && (record[start + 2] | 0x20) == 's';
+    }
+
+    private boolean isBlank(int field) {
+        return skipSpaces(fieldStart[field], fieldEnd[field]) == fieldEnd[field];
+    }
+
+    private String decode(int start, int end) {
+        start = skipSpaces(start, end);
+        end = trimEnd(start, end);
+        return new String(record, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private int skipSpaces(int start, int end) {
+        while (start < end && isSpace(record[start])) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && isSpace(record[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
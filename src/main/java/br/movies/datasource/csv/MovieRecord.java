@@ -0,0 +1,13 @@
+package br.movies.datasource.csv;
+
+import java.util.List;
+
+public record MovieRecord(
+        long line,
+        int year,
+        String title,
+        List<String> studios,
+        List<String> producers,
+        boolean winner
+) {
+}
@@ -0,0 +1,34 @@
+package br.movies.datasource.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro único (id 1) da última carga gravada na base: com uma base em arquivo, o boot seguinte
+ * compara o hash dos arquivos de origem e pula a carga se nada mudou.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataLoadState {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    // SHA-256 em hexadecimal dos CSVs e do arquivo de apelidos, na ordem de carga
+    private String sourceHash;
+
+    private Long movies;
+
+    private LocalDateTime loadedAt;
+}
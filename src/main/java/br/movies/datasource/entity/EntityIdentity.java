@@ -0,0 +1,31 @@
+package br.movies.datasource.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Apoio ao equals/hashCode por id das entidades. Um proxy lazy é comparado pela classe da
+ * entidade que representa, sem inicializá-lo; o hashCode depende só da classe, então não muda
+ * quando o id é atribuído no persist.
+ */
+final class EntityIdentity {
+
+    private EntityIdentity() {
+    }
+
+    static Class<?> effectiveClass(Object entity) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : entity.getClass();
+    }
+
+    // Entidades ainda sem id só são iguais a si mesmas
+    static boolean sameId(Object entity, Long id, Object other, Long otherId) {
+        if (entity == other) {
+            return true;
+        }
+        if (other == null || effectiveClass(entity) != effectiveClass(other)) {
+            return false;
+        }
+        return id != null && id.equals(otherId);
+    }
+}
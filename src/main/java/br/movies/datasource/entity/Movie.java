@@ -1,31 +1,116 @@
 package br.movies.datasource.entity;
 
+import br.movies.datasource.event.MovieChangeTracker;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+// Índices também criados pelas migrações do perfil persistent: vencedores por ano e as ligações
+// nos dois sentidos (a chave primária da junção cobre filme -> ligação) atendem as consultas de
+// intervalos sem ler as linhas das tabelas
 @Entity
-@Data
+@Table(indexes = @Index(name = "ix_movie_winner_year", columnList = "winner, year_movie, id"))
+@NamedEntityGraph(name = Movie.WITH_LINKS, attributeNodes = {
+        @NamedAttributeNode("studios"),
+        @NamedAttributeNode("producers")
+})
+@EntityListeners(MovieChangeTracker.class)
+@Getter
+@Setter
+@ToString(exclude = {"studios", "producers"})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Movie {
+
+    /**
+     * Plano de busca das alterações: filme, estúdios e produtores numa consulta só.
+     */
+    public static final String WITH_LINKS = "Movie.withLinks";
+
+    /**
+     * Quem é dono da linha. A recarga incremental dos CSVs só inclui, altera e remove filmes
+     * {@link #CSV}; os criados pela API nunca são removidos por uma alteração dos arquivos.
+     */
+    public enum Source {
+        CSV,
+        API
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_seq")
+    @SequenceGenerator(name = "movie_seq", sequenceName = "movie_seq", allocationSize = 50)
     private Long id;
 
     private Integer yearMovie;
     private String title;
 
+    // Set em vez de List: numa alteração o Hibernate remove e inclui só as ligações que mudaram,
+    // em vez de apagar a coleção inteira e inserir tudo de novo
     @ManyToMany
-    private List<Studio> studios;
+    @JoinTable(name = "movie_studios",
+            joinColumns = @JoinColumn(name = "movie_id"),
+            inverseJoinColumns = @JoinColumn(name = "studios_id"),
+            indexes = @Index(name = "ix_movie_studios_studio", columnList = "studios_id, movie_id"))
+    private Set<Studio> studios;
 
     @ManyToMany
-    private List<Producer> producers;
+    @JoinTable(name = "movie_producers",
+            joinColumns = @JoinColumn(name = "movie_id"),
+            inverseJoinColumns = @JoinColumn(name = "producers_id"),
+            indexes = @Index(name = "ix_movie_producers_producer", columnList = "producers_id, movie_id"))
+    private Set<Producer> producers;
 
     private Boolean winner = false;
-}
\ No newline at end of file
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Source source;
+
+    // Sem origem informada o filme fica de fora da recarga dos CSVs, nunca é removido por ela
+    @PrePersist
+    void defaultSource() {
+        if (source == null) {
+            source = Source.API;
+        }
+    }
+
+    /**
+     * Troca os estúdios mantendo a coleção gerenciada, para que o flush grave só a diferença.
+     */
+    public void replaceStudios(Collection<Studio> replacement) {
+        studios = replace(studios, replacement);
+    }
+
+    public void replaceProducers(Collection<Producer> replacement) {
+        producers = replace(producers, replacement);
+    }
+
+    private static <T> Set<T> replace(Set<T> current, Collection<T> replacement) {
+        if (current == null) {
+            return new LinkedHashSet<>(replacement);
+        }
+        current.retainAll(replacement);
+        current.addAll(replacement);
+        return current;
+    }
+
+    // Identidade pelo id, sem tocar nas coleções lazy
+    @Override
+    public final boolean equals(Object other) {
+        return EntityIdentity.sameId(this, getId(), other, other instanceof Movie entity ? entity.getId() : null);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.effectiveClass(this).hashCode();
+    }
+}
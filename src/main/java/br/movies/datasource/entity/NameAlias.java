@@ -0,0 +1,37 @@
+package br.movies.datasource.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Grafia alternativa de um produtor ou estúdio que não se resolve só com a normalização
+ * (ex.: "Jerry Bruckheimer Films" -> "Jerry Bruckheimer"). A chave do apelido aponta para o nome canônico.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_name_alias_kind_key", columnNames = {"kind", "alias_key"}))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NameAlias {
+
+    public enum Kind {
+        PRODUCER,
+        STUDIO
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "name_alias_seq")
+    @SequenceGenerator(name = "name_alias_seq", sequenceName = "name_alias_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private Kind kind;
+
+    private String aliasKey;
+
+    private String name;
+}
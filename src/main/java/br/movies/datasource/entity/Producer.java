@@ -1,23 +1,64 @@
 package br.movies.datasource.entity;
 
+import br.movies.datasource.NameKeys;
+import br.movies.datasource.event.ProducerStudioListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// Linhas quase imutáveis (só são criadas): ficam no cache de segundo nível e uma referência obtida
+// por id é inicializada sem SELECT
 @Entity
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "producer")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_producer_name_key", columnNames = "name_key"))
+@EntityListeners(ProducerStudioListener.class)
+@Getter
+@Setter
+@ToString
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Producer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producer_seq")
+    @SequenceGenerator(name = "producer_seq", sequenceName = "producer_seq", allocationSize = 50)
     private Long id;
 
     private String name;
-}
\ No newline at end of file
+
+    // Nome normalizado (caixa e espaços); o índice único impede duplicatas por variação de grafia
+    private String nameKey;
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        nameKey = NameKeys.normalize(name);
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        return EntityIdentity.sameId(this, getId(), other, other instanceof Producer entity ? entity.getId() : null);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.effectiveClass(this).hashCode();
+    }
+}
@@ -1,20 +1,53 @@
 package br.movies.datasource.entity;
 
+import br.movies.datasource.NameKeys;
+import br.movies.datasource.event.ProducerStudioListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// Cache de segundo nível como em Producer
 @Entity
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "studio")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_studio_name_key", columnNames = "name_key"))
+@EntityListeners(ProducerStudioListener.class)
+@Getter
+@Setter
+@ToString
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Studio {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "studio_seq")
+    @SequenceGenerator(name = "studio_seq", sequenceName = "studio_seq", allocationSize = 50)
     private Long id;
 
     private String name;
-}
\ No newline at end of file
+
+    // Mesma chave normalizada de Producer
+    private String nameKey;
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        nameKey = NameKeys.normalize(name);
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        return EntityIdentity.sameId(this, getId(), other, other instanceof Studio entity ? entity.getId() : null);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.effectiveClass(this).hashCode();
+    }
+}
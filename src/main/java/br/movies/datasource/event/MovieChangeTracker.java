@@ -0,0 +1,91 @@
+package br.movies.datasource.event;
+
+import br.movies.datasource.entity.Movie;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Entity listener de {@link Movie}: junta os ids alterados em cada transação e publica um
+ * único {@link MoviesChangedEvent} depois do commit. Em rollback nada é publicado.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieChangeTracker {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Cargas em lote desligam o rastreamento e publicam um reload no final
+    private final ThreadLocal<Boolean> muted = ThreadLocal.withInitial(() -> false);
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMovieChanged(Movie movie) {
+        if (!muted.get() && movie.getId() != null) {
+            movieChanged(movie.getId());
+        }
+    }
+
+    public void movieChanged(Long movieId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(MoviesChangedEvent.of(Set.of(movieId)));
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.movieIds.add(movieId);
+    }
+
+    public void reloaded() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(MoviesChangedEvent.reloaded());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(MoviesChangedEvent.reloaded());
+            }
+        });
+    }
+
+    public <T> T untracked(Supplier<T> action) {
+        boolean previous = muted.get();
+        muted.set(true);
+        try {
+            return action.get();
+        } finally {
+            muted.set(previous);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Long> movieIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            eventPublisher.publishEvent(MoviesChangedEvent.of(movieIds));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MovieChangeTracker.this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.movies.datasource.event;
+
+import java.util.Set;
+
+/**
+ * Publicado após o commit de alterações em filmes. {@code reload} indica que a base inteira
+ * foi (re)carregada e que estruturas derivadas devem ser reconstruídas.
+ */
+public record MoviesChangedEvent(Set<Long> movieIds, boolean reload) {
+
+    public static MoviesChangedEvent of(Set<Long> movieIds) {
+        return new MoviesChangedEvent(Set.copyOf(movieIds), false);
+    }
+
+    public static MoviesChangedEvent reloaded() {
+        return new MoviesChangedEvent(Set.of(), true);
+    }
+}
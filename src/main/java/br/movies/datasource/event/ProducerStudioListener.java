@@ -0,0 +1,42 @@
+package br.movies.datasource.event;
+
+import br.movies.datasource.ProducerStudioLookup;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener de {@link Producer} e {@link Studio}: mantém o {@link ProducerStudioLookup} em dia
+ * com registros gravados ou removidos fora dele (repositórios, testes), evitando nomes duplicados
+ * ou referências a ids apagados.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProducerStudioListener {
+
+    // Resolvido só no uso: o lookup depende do EntityManager, que ainda está sendo criado
+    // quando o Hibernate instancia os entity listeners
+    private final ObjectProvider<ProducerStudioLookup> lookup;
+
+    @PostPersist
+    public void onPersisted(Object entity) {
+        if (entity instanceof Producer producer) {
+            lookup.getObject().producerPersisted(producer);
+        } else if (entity instanceof Studio studio) {
+            lookup.getObject().studioPersisted(studio);
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Producer producer) {
+            lookup.getObject().producerRemoved(producer);
+        } else if (entity instanceof Studio studio) {
+            lookup.getObject().studioRemoved(studio);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.movies.datasource.projection;
+
+// Uma linha de tabela de junção (filme -> produtor ou estúdio) com o nome já resolvido
+public interface MovieLinkView {
+    Long getMovieId();
+
+    Long getLinkId();
+
+    String getLinkName();
+}
@@ -0,0 +1,13 @@
+package br.movies.datasource.projection;
+
+public interface MovieProducerView {
+    Long getMovieId();
+
+    Integer getYearMovie();
+
+    Boolean getWinner();
+
+    Long getProducerId();
+
+    String getProducerName();
+}
@@ -0,0 +1,11 @@
+package br.movies.datasource.projection;
+
+public interface MovieRowView {
+    Long getId();
+
+    Integer getYearMovie();
+
+    String getTitle();
+
+    Boolean getWinner();
+}
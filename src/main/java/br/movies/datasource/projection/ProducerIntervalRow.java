@@ -0,0 +1,14 @@
+package br.movies.datasource.projection;
+
+public interface ProducerIntervalRow {
+    // "min" ou "max"
+    String getKind();
+
+    String getProducer();
+
+    Number getGap();
+
+    Number getPreviousWin();
+
+    Number getFollowingWin();
+}
@@ -0,0 +1,9 @@
+package br.movies.datasource.projection;
+
+public interface ProducerWinView {
+    Long getProducerId();
+
+    String getProducerName();
+
+    Integer getYearMovie();
+}
@@ -0,0 +1,9 @@
+package br.movies.datasource.repository;
+
+import br.movies.datasource.entity.DataLoadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataLoadStateRepository extends JpaRepository<DataLoadState, Integer> {
+}
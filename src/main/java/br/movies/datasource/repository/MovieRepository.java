@@ -1,13 +1,108 @@
 package br.movies.datasource.repository;
 
 import br.movies.datasource.entity.Movie;
+import br.movies.datasource.projection.MovieLinkView;
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.datasource.projection.MovieRowView;
+import br.movies.datasource.projection.ProducerIntervalRow;
+import br.movies.datasource.projection.ProducerWinView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
-    List<Movie> findByWinnerTrueOrderByYearMovie();
+    // Uma única consulta com (produtor, ano) de cada vitória, já ordenada para o cálculo dos intervalos
+    @Query("select p.id as producerId, p.name as producerName, m.yearMovie as yearMovie "
+            + "from Movie m join m.producers p where m.winner = true order by p.id, m.yearMovie")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProducerWinView> streamProducerWins();
 
+    // Intervalos calculados na base com LAG; só as linhas do mínimo e do máximo voltam para a JVM
+    @Query(value = """
+            with gaps as (
+                select p.name as producer,
+                       lag(m.year_movie) over (partition by mp.producers_id order by m.year_movie) as previous_win,
+                       m.year_movie as following_win
+                from movie m
+                join movie_producers mp on mp.movie_id = m.id
+                join producer p on p.id = mp.producers_id
+                where m.winner = true
+            ), intervals as (
+                select producer, following_win - previous_win as gap, previous_win, following_win
+                from gaps
+                where previous_win is not null
+            )
+            select 'min' as "kind", producer as "producer", gap as "gap",
+                   previous_win as "previousWin", following_win as "followingWin"
+            from intervals
+            where gap = (select min(gap) from intervals)
+            union all
+            select 'max', producer, gap, previous_win, following_win
+            from intervals
+            where gap = (select max(gap) from intervals)
+            """, nativeQuery = true)
+    List<ProducerIntervalRow> findMinMaxProducerIntervals();
+
+    @Query("select m.id from Movie m where m.source = :source")
+    List<Long> findIdsBySource(@Param("source") Movie.Source source);
+
+    @Query("select m.id as movieId, m.yearMovie as yearMovie, m.winner as winner, p.id as producerId, p.name as producerName "
+            + "from Movie m join m.producers p where m.winner = true")
+    List<MovieProducerView> findWinnerProducerViews();
+
+    @Query("select m.id as movieId, m.yearMovie as yearMovie, m.winner as winner, p.id as producerId, p.name as producerName "
+            + "from Movie m left join m.producers p where m.id in :ids")
+    List<MovieProducerView> findProducerViewsByMovieIds(@Param("ids") Collection<Long> ids);
+
+    // Consultas de montagem do armazenamento colunar: colunas escalares e as duas tabelas de junção
+    @Query("select m.id as id, m.yearMovie as yearMovie, m.title as title, m.winner as winner from Movie m")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MovieRowView> streamMovieRows();
+
+    @Query("select m.id as movieId, p.id as linkId, p.name as linkName from Movie m join m.producers p")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MovieLinkView> streamProducerLinks();
+
+    @Query("select m.id as movieId, s.id as linkId, s.name as linkName from Movie m join m.studios s")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MovieLinkView> streamStudioLinks();
+
+    // Mesmas colunas, restritas aos filmes alterados
+    @Query("select m.id as id, m.yearMovie as yearMovie, m.title as title, m.winner as winner from Movie m "
+            + "where m.id in :ids")
+    List<MovieRowView> findMovieRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // Filmes a alterar já com estúdios e produtores: uma consulta por lote em vez de uma por filme e coleção
+    @EntityGraph(Movie.WITH_LINKS)
+    List<Movie> findWithLinksByIdIn(Collection<Long> ids);
+
+    @Query("select m.id as movieId, p.id as linkId, p.name as linkName from Movie m join m.producers p "
+            + "where m.id in :ids")
+    List<MovieLinkView> findProducerLinksByMovieIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select m.id as movieId, s.id as linkId, s.name as linkName from Movie m join m.studios s "
+            + "where m.id in :ids")
+    List<MovieLinkView> findStudioLinksByMovieIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,12 @@
+package br.movies.datasource.repository;
+
+import br.movies.datasource.entity.NameAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NameAliasRepository extends JpaRepository<NameAlias, Long> {
+    List<NameAlias> findByKind(NameAlias.Kind kind);
+}
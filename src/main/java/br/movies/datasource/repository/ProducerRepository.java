@@ -1,5 +1,6 @@
 package br.movies.datasource.repository;
 
+import br.movies.datasource.NameKeys;
 import br.movies.datasource.entity.Producer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -8,5 +9,10 @@ import java.util.Optional;
 
 @Repository
 public interface ProducerRepository extends JpaRepository<Producer, Long> {
-    Optional<Producer> findByName(String name);
+    Optional<Producer> findByNameKey(String nameKey);
+
+    // Busca pelo índice único da chave normalizada, então variações de caixa e espaços também casam
+    default Optional<Producer> findByName(String name) {
+        return findByNameKey(NameKeys.normalize(name));
+    }
 }
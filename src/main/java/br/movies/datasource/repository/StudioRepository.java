@@ -1,5 +1,6 @@
 package br.movies.datasource.repository;
 
+import br.movies.datasource.NameKeys;
 import br.movies.datasource.entity.Studio;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -8,5 +9,10 @@ import java.util.Optional;
 
 @Repository
 public interface StudioRepository extends JpaRepository<Studio, Long> {
-    Optional<Studio> findByName(String name);
+    Optional<Studio> findByNameKey(String nameKey);
+
+    // Mesma busca normalizada de ProducerRepository
+    default Optional<Studio> findByName(String name) {
+        return findByNameKey(NameKeys.normalize(name));
+    }
 }
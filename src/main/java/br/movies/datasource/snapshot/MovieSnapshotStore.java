@@ -0,0 +1,337 @@
+package br.movies.datasource.snapshot;
+
+import br.movies.datasource.CsvShard;
+import br.movies.datasource.NameKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot binário das tabelas carregadas, usado para pular o parse do CSV e os inserts via JPA
+ * no próximo boot. Formato (big-endian):
+ *
+ * <pre>
+ * magic "MVSN" | versão | SHA-256 dos CSVs de origem (32 bytes)
+ * quantidades: estúdios, produtores, filmes, filme-estúdio, filme-produtor
+ * estúdios e produtores: id, nome | filmes: id, ano, vencedor, título, origem | ligações: id do filme, id
+ * CRC32C de tudo que vem antes (8 bytes)
+ * </pre>
+ *
+ * Textos são gravados como tamanho + UTF-8 (tamanho -1 = nulo); ano nulo vira Integer.MIN_VALUE.
+ * A chave normalizada dos nomes não é gravada, é recalculada na restauração.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSnapshotStore {
+
+    public static final int MAGIC = 0x4D56534E;
+    public static final int VERSION = 2;
+
+    private static final int HASH_BYTES = 32;
+    private static final int HEADER_BYTES = 4 + 4 + HASH_BYTES + 5 * 4;
+    private static final int TRAILER_BYTES = 8;
+    private static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final int BATCH_SIZE = 1000;
+
+    // Mesmo allocationSize dos @SequenceGenerator das entidades
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * SHA-256 do conteúdo dos arquivos na ordem de carga; qualquer alteração invalida o snapshot.
+     */
+    public static byte[] sourceHash(List<CsvShard> shards) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        for (CsvShard shard : shards) {
+            try (ReadableByteChannel channel = shard.open()) {
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                }
+            }
+            // Separa os arquivos para que "a|bc" e "ab|c" não tenham o mesmo hash
+            digest.update((byte) 0);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Grava o conteúdo atual da base num arquivo temporário e o move atomicamente para {@code path}.
+     * Contagens e seções são lidas numa única transação só de leitura com isolamento serializável:
+     * gravações da API ou do recarregamento em paralelo não deixam o cabeçalho divergir das linhas.
+     */
+    public void write(Path path, byte[] sourceHash) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        try {
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 BufferedOutputStream buffered = new BufferedOutputStream(file, 64 * 1024)) {
+                CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32C());
+                DataOutputStream data = new DataOutputStream(checked);
+
+                data.writeInt(MAGIC);
+                data.writeInt(VERSION);
+                data.write(sourceHash);
+                readOnly.executeWithoutResult(status -> writeTables(data));
+
+                data.flush();
+                new DataOutputStream(buffered).writeLong(checked.getChecksum().getValue());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeTables(DataOutputStream data) {
+        for (String table : List.of("studio", "producer", "movie", "movie_studios", "movie_producers")) {
+            try {
+                data.writeInt(jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        writeSection(data, "select id, name from studio order by id", (rs, out) -> {
+            out.writeLong(rs.getLong(1));
+            writeString(out, rs.getString(2));
+        });
+        writeSection(data, "select id, name from producer order by id", (rs, out) -> {
+            out.writeLong(rs.getLong(1));
+            writeString(out, rs.getString(2));
+        });
+        writeSection(data, "select id, year_movie, winner, title, source from movie order by id", (rs, out) -> {
+            out.writeLong(rs.getLong(1));
+            int year = rs.getInt(2);
+            out.writeInt(rs.wasNull() ? NULL_YEAR : year);
+            out.writeBoolean(rs.getBoolean(3));
+            writeString(out, rs.getString(4));
+            writeString(out, rs.getString(5));
+        });
+        writeSection(data, "select movie_id, studios_id from movie_studios order by movie_id, studios_id", (rs, out) -> {
+            out.writeLong(rs.getLong(1));
+            out.writeLong(rs.getLong(2));
+        });
+        writeSection(data, "select movie_id, producers_id from movie_producers order by movie_id, producers_id", (rs, out) -> {
+            out.writeLong(rs.getLong(1));
+            out.writeLong(rs.getLong(2));
+        });
+    }
+
+    /**
+     * Restaura o snapshot numa base vazia. Devolve {@code false} se o arquivo não existe, é de outra
+     * versão do formato ou foi gerado a partir de outros CSVs; falha com IOException se estiver corrompido.
+     */
+    public boolean restore(Path path, byte[] sourceHash) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        if (jdbcTemplate.queryForObject("select count(*) from movie", Integer.class) > 0) {
+            log.info("Snapshot {} ignored: movie table is not empty", path);
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " has invalid size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Snapshot " + path + " has invalid header");
+            }
+            int version = buffer.getInt();
+            byte[] hash = new byte[HASH_BYTES];
+            buffer.get(hash);
+            if (version != VERSION || !Arrays.equals(hash, sourceHash)) {
+                log.info("Snapshot {} is stale (format version {}, source changed: {})",
+                        path, version, !Arrays.equals(hash, sourceHash));
+                return false;
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().position(0).limit((int) size - TRAILER_BYTES));
+            if (crc.getValue() != buffer.getLong((int) size - TRAILER_BYTES)) {
+                throw new IOException("Snapshot " + path + " checksum mismatch");
+            }
+
+            int studios = buffer.getInt();
+            int producers = buffer.getInt();
+            int movies = buffer.getInt();
+            int movieStudios = buffer.getInt();
+            int movieProducers = buffer.getInt();
+            SnapshotInput input = new SnapshotInput(buffer);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                insert("insert into studio (id, name, name_key) values (?, ?, ?)", studios, ps -> {
+                    ps.setLong(1, input.buffer.getLong());
+                    String name = input.readString();
+                    ps.setString(2, name);
+                    ps.setString(3, NameKeys.normalize(name));
+                });
+                insert("insert into producer (id, name, name_key) values (?, ?, ?)", producers, ps -> {
+                    ps.setLong(1, input.buffer.getLong());
+                    String name = input.readString();
+                    ps.setString(2, name);
+                    ps.setString(3, NameKeys.normalize(name));
+                });
+                insert("insert into movie (id, year_movie, winner, title, source) values (?, ?, ?, ?, ?)", movies, ps -> {
+                    ps.setLong(1, input.buffer.getLong());
+                    int year = input.buffer.getInt();
+                    if (year == NULL_YEAR) {
+                        ps.setNull(2, Types.INTEGER);
+                    } else {
+                        ps.setInt(2, year);
+                    }
+                    ps.setBoolean(3, input.buffer.get() != 0);
+                    ps.setString(4, input.readString());
+                    ps.setString(5, input.readString());
+                });
+                insert("insert into movie_studios (movie_id, studios_id) values (?, ?)", movieStudios, ps -> {
+                    ps.setLong(1, input.buffer.getLong());
+                    ps.setLong(2, input.buffer.getLong());
+                });
+                insert("insert into movie_producers (movie_id, producers_id) values (?, ?)", movieProducers, ps -> {
+                    ps.setLong(1, input.buffer.getLong());
+                    ps.setLong(2, input.buffer.getLong());
+                });
+                restartSequences();
+            });
+            log.info("Restored {} movies, {} producers and {} studios from snapshot {}", movies, producers, studios, path);
+            return true;
+        }
+    }
+
+    // Os ids vieram do snapshot, então as sequences precisam continuar depois do maior id de cada tabela.
+    // Com o otimizador pooled o Hibernate pode usar até ALLOCATION_SIZE valores abaixo do valor lido.
+    private void restartSequences() {
+        restartSequence("movie_seq", "movie");
+        restartSequence("producer_seq", "producer");
+        restartSequence("studio_seq", "studio");
+    }
+
+    private void restartSequence(String sequence, String table) {
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + ALLOCATION_SIZE + 1));
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs, DataOutputStream out) throws SQLException, IOException;
+    }
+
+    // Insere {@code rows} linhas em lotes JDBC, lendo os valores do buffer na ordem em que foram gravados
+    private void insert(String sql, int rows, RowSetter setter) {
+        for (int done = 0; done < rows; done += BATCH_SIZE) {
+            int count = Math.min(BATCH_SIZE, rows - done);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+    }
+
+    private void writeSection(DataOutputStream data, String sql, RowWriter writer) {
+        jdbcTemplate.query(sql, rs -> {
+            try {
+                writer.write(rs, data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Leitura sequencial do arquivo mapeado, reaproveitando o array dos textos
+    private static final class SnapshotInput {
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[256];
+
+        private SnapshotInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private String readString() {
+            int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DecadeWinners {
+    private Integer decade;
+    private Integer winners;
+    private Integer producers;
+}
@@ -0,0 +1,14 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MovieBulkResult {
+    private int created;
+    // Ids na mesma ordem dos filmes enviados
+    private List<Long> ids;
+}
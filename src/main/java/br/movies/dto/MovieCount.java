@@ -0,0 +1,10 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MovieCount {
+    private long count;
+}
@@ -0,0 +1,18 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieRequest {
+    private Integer year;
+    private String title;
+    private Boolean winner;
+    private List<String> studios;
+    private List<String> producers;
+}
@@ -0,0 +1,17 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MovieSummary {
+    private Long id;
+    private Integer year;
+    private String title;
+    private Boolean winner;
+    private List<String> studios;
+    private List<String> producers;
+}
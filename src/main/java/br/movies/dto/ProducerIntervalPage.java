@@ -0,0 +1,14 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProducerIntervalPage {
+    private List<ProducerInterval> intervals;
+    // Cursor da próxima página, nulo na última
+    private String nextCursor;
+}
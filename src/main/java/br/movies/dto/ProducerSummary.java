@@ -0,0 +1,15 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProducerSummary {
+    private Long id;
+    private String name;
+    private Integer movies;
+    private Integer wins;
+    private Integer firstWin;
+    private Integer lastWin;
+}
@@ -0,0 +1,16 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProducerTimeline {
+    private Long id;
+    private String name;
+    private Integer movies;
+    private List<ProducerWin> wins;
+    private List<ProducerInterval> intervals;
+}
@@ -0,0 +1,12 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProducerWin {
+    private Integer year;
+    private Long movieId;
+    private String title;
+}
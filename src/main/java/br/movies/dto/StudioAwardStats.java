@@ -0,0 +1,17 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StudioAwardStats {
+    private String studio;
+    private Integer wins;
+    private Integer firstWin;
+    private Integer lastWin;
+    // Maior sequência de anos consecutivos com vitória
+    private Integer longestStreak;
+    private Integer streakStart;
+    private Integer streakEnd;
+}
@@ -0,0 +1,14 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StudioAwardsResponse {
+    private List<StudioInterval> min;
+    private List<StudioInterval> max;
+    private List<StudioAwardStats> studios;
+}
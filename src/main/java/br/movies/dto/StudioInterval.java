@@ -0,0 +1,13 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StudioInterval {
+    private String studio;
+    private Integer interval;
+    private Integer previousWin;
+    private Integer followingWin;
+}
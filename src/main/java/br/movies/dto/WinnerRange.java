@@ -0,0 +1,14 @@
+package br.movies.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WinnerRange {
+    private Integer fromYear;
+    private Integer toYear;
+    private Integer winners;
+    // Produtores distintos com pelo menos uma vitória na faixa
+    private Integer producers;
+}
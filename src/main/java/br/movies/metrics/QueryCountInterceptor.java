@@ -0,0 +1,62 @@
+package br.movies.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Registra quantos comandos SQL cada requisição executou ({@code movies.http.queries}, por método e
+ * padrão de URI), para que um N+1 apareça como salto na média/máximo do endpoint. Respostas em
+ * streaming só contam o que roda antes de o corpo começar a ser escrito em outra thread: o despacho
+ * {@link DispatcherType#ASYNC} que encerra a resposta passa de novo pelo interceptor e é ignorado,
+ * senão cada requisição assíncrona geraria uma segunda amostra, com zero consultas.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            queryCounter.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // A thread do container volta para o pool; o restante roda fora dela
+        record(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // A amostra da requisição assíncrona já foi registrada em afterConcurrentHandlingStarted
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            record(request);
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        long queries = queryCounter.end();
+        if (queries < 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("movies.http.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(queries);
+    }
+}
@@ -0,0 +1,35 @@
+package br.movies.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * StatementInspector do Hibernate que conta os comandos SQL preparados na thread atual entre
+ * {@link #begin()} e {@link #end()}. Fora desse intervalo só devolve o SQL, sem custo extra.
+ * Consultas feitas direto pelo JdbcTemplate não passam pelo Hibernate e não são contadas.
+ */
+@Component
+public class QueryCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> counts = new ThreadLocal<>();
+
+    public void begin() {
+        counts.set(new long[1]);
+    }
+
+    // Quantidade de comandos desde o begin(), ou -1 se a contagem não estava ativa
+    public long end() {
+        long[] count = counts.get();
+        counts.remove();
+        return count != null ? count[0] : -1;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
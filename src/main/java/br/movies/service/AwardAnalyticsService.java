@@ -0,0 +1,61 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.StudioAwardStats;
+import br.movies.dto.StudioAwardsResponse;
+import br.movies.dto.StudioInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estatísticas de prêmios por relação (produtores, estúdios). Todas as relações são calculadas
+ * juntas numa passada do {@link AwardIntervalEngine} e guardadas para a versão atual da cópia
+ * colunar; uma nova versão (carga ou gravação) dispara o recálculo no próximo acesso.
+ */
+@Service
+@RequiredArgsConstructor
+public class AwardAnalyticsService {
+
+    private final MovieColumnStore movieColumnStore;
+
+    private record Snapshot(MovieColumns columns, Map<AwardRelation, AwardIntervalEngine.AwardGrouping> groupings) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    public AwardIntervalEngine.AwardGrouping grouping(AwardRelation relation) {
+        MovieColumns columns = movieColumnStore.current();
+        Snapshot current = snapshot;
+        // Cálculo concorrente da mesma versão só repete trabalho; a cópia colunar é imutável
+        if (current == null || current.columns() != columns) {
+            current = new Snapshot(columns, AwardIntervalEngine.calculate(columns, EnumSet.allOf(AwardRelation.class)));
+            snapshot = current;
+        }
+        return current.groupings().get(relation);
+    }
+
+    public StudioAwardsResponse getStudioAwards() {
+        AwardIntervalEngine.AwardGrouping grouping = grouping(AwardRelation.STUDIO);
+        List<StudioAwardStats> studios = new ArrayList<>(grouping.stats().size());
+        for (AwardIntervalEngine.AwardStats stats : grouping.stats()) {
+            studios.add(new StudioAwardStats(stats.name(), stats.wins(), stats.firstWin(), stats.lastWin(),
+                    stats.longestStreak(), stats.streakStart(), stats.streakEnd()));
+        }
+        return new StudioAwardsResponse(toStudioIntervals(grouping.min()), toStudioIntervals(grouping.max()), studios);
+    }
+
+    private static List<StudioInterval> toStudioIntervals(List<AwardIntervalEngine.AwardInterval> intervals) {
+        List<StudioInterval> dtos = new ArrayList<>(intervals.size());
+        for (AwardIntervalEngine.AwardInterval interval : intervals) {
+            dtos.add(new StudioInterval(interval.name(), interval.interval(), interval.previousWin(),
+                    interval.followingWin()));
+        }
+        return dtos;
+    }
+}
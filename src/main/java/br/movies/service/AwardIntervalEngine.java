@@ -0,0 +1,176 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumns;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Intervalos entre vitórias, contagem e sequências de anos consecutivos para qualquer
+ * {@link AwardRelation}. Percorre os vencedores da cópia colunar uma única vez, em ordem de ano, e
+ * alimenta todas as relações pedidas na mesma passada; o estado de cada entidade fica em arrays
+ * indexados pelo código do dicionário.
+ */
+public final class AwardIntervalEngine {
+
+    // Mesma ordem de JvmProducerIntervalCalculator.RESPONSE_ORDER; o id desempata nomes repetidos
+    // para que o cálculo paralelo e o sequencial devolvam a mesma sequência
+    static final Comparator<AwardInterval> INTERVAL_ORDER = Comparator
+            .comparing(AwardInterval::name)
+            .thenComparingInt(AwardInterval::previousWin)
+            .thenComparingInt(AwardInterval::followingWin)
+            .thenComparingLong(AwardInterval::id);
+
+    static final Comparator<AwardStats> STATS_ORDER = Comparator
+            .comparingInt(AwardStats::wins).reversed()
+            .thenComparing(AwardStats::name)
+            .thenComparingLong(AwardStats::id);
+
+    public record AwardInterval(long id, String name, int interval, int previousWin, int followingWin) {
+    }
+
+    /**
+     * Vitórias de uma entidade; a maior sequência conta anos consecutivos com pelo menos uma vitória
+     * (a primeira em caso de empate).
+     */
+    public record AwardStats(long id, String name, int wins, int firstWin, int lastWin,
+                             int longestStreak, int streakStart, int streakEnd) {
+    }
+
+    // Menores e maiores intervalos (com empates) e as entidades com vitória, mais premiadas primeiro
+    public record AwardGrouping(List<AwardInterval> min, List<AwardInterval> max, List<AwardStats> stats) {
+    }
+
+    private AwardIntervalEngine() {
+    }
+
+    public static AwardGrouping calculate(MovieColumns columns, AwardRelation relation) {
+        return calculate(columns, EnumSet.of(relation)).get(relation);
+    }
+
+    public static Map<AwardRelation, AwardGrouping> calculate(MovieColumns columns, Collection<AwardRelation> relations) {
+        List<Accumulator> accumulators = new ArrayList<>(relations.size());
+        for (AwardRelation relation : EnumSet.copyOf(relations)) {
+            accumulators.add(new Accumulator(columns, relation));
+        }
+
+        for (int i = 0; i < columns.winnerCount(); i++) {
+            int row = columns.winnerByYear(i);
+            int year = columns.year(row);
+            for (Accumulator accumulator : accumulators) {
+                accumulator.add(row, year);
+            }
+        }
+
+        Map<AwardRelation, AwardGrouping> result = new EnumMap<>(AwardRelation.class);
+        for (Accumulator accumulator : accumulators) {
+            result.put(accumulator.relation, accumulator.toGrouping());
+        }
+        return result;
+    }
+
+    private static final class Accumulator {
+        private final MovieColumns columns;
+        private final AwardRelation relation;
+
+        private final int[] wins;
+        private final int[] firstWin;
+        private final int[] lastWin;
+        private final int[] streak;
+        private final int[] streakStart;
+        private final int[] longestStreak;
+        private final int[] longestStart;
+        private final int[] longestEnd;
+
+        // Só os candidatos ao mínimo e ao máximo viram objetos
+        private final List<AwardInterval> minIntervals = new ArrayList<>();
+        private final List<AwardInterval> maxIntervals = new ArrayList<>();
+        private int minInterval = Integer.MAX_VALUE;
+        private int maxInterval = Integer.MIN_VALUE;
+
+        private Accumulator(MovieColumns columns, AwardRelation relation) {
+            this.columns = columns;
+            this.relation = relation;
+            int count = relation.count(columns);
+            this.wins = new int[count];
+            this.firstWin = new int[count];
+            this.lastWin = new int[count];
+            this.streak = new int[count];
+            this.streakStart = new int[count];
+            this.longestStreak = new int[count];
+            this.longestStart = new int[count];
+            this.longestEnd = new int[count];
+        }
+
+        // Chamado com os vencedores em ordem crescente de ano
+        private void add(int row, int year) {
+            for (int i = relation.start(columns, row); i < relation.end(columns, row); i++) {
+                int code = relation.at(columns, i);
+                if (wins[code] == 0) {
+                    firstWin[code] = year;
+                    streak[code] = 1;
+                    streakStart[code] = year;
+                } else {
+                    int previousWin = lastWin[code];
+                    int interval = year - previousWin;
+                    offer(code, interval, previousWin, year);
+                    // Duas vitórias no mesmo ano não aumentam nem quebram a sequência
+                    if (interval == 1) {
+                        streak[code]++;
+                    } else if (interval > 1) {
+                        streak[code] = 1;
+                        streakStart[code] = year;
+                    }
+                }
+                wins[code]++;
+                lastWin[code] = year;
+                if (streak[code] > longestStreak[code]) {
+                    longestStreak[code] = streak[code];
+                    longestStart[code] = streakStart[code];
+                    longestEnd[code] = year;
+                }
+            }
+        }
+
+        private void offer(int code, int interval, int previousWin, int followingWin) {
+            if (interval < minInterval) {
+                minInterval = interval;
+                minIntervals.clear();
+            }
+            if (interval == minInterval) {
+                minIntervals.add(interval(code, interval, previousWin, followingWin));
+            }
+            if (interval > maxInterval) {
+                maxInterval = interval;
+                maxIntervals.clear();
+            }
+            if (interval == maxInterval) {
+                maxIntervals.add(interval(code, interval, previousWin, followingWin));
+            }
+        }
+
+        private AwardInterval interval(int code, int interval, int previousWin, int followingWin) {
+            return new AwardInterval(relation.id(columns, code), relation.name(columns, code), interval,
+                    previousWin, followingWin);
+        }
+
+        private AwardGrouping toGrouping() {
+            List<AwardStats> stats = new ArrayList<>();
+            for (int code = 0; code < wins.length; code++) {
+                if (wins[code] > 0) {
+                    stats.add(new AwardStats(relation.id(columns, code), relation.name(columns, code), wins[code],
+                            firstWin[code], lastWin[code], longestStreak[code], longestStart[code], longestEnd[code]));
+                }
+            }
+            minIntervals.sort(INTERVAL_ORDER);
+            maxIntervals.sort(INTERVAL_ORDER);
+            stats.sort(STATS_ORDER);
+            return new AwardGrouping(minIntervals, maxIntervals, stats);
+        }
+    }
+}
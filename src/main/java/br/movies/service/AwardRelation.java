@@ -0,0 +1,86 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumns;
+
+/**
+ * Relação filme -> entidade sobre a qual o {@link AwardIntervalEngine} agrupa as vitórias. Cada
+ * constante lê as associações em CSV e o dicionário correspondentes da cópia colunar.
+ */
+public enum AwardRelation {
+
+    PRODUCER {
+        @Override
+        int count(MovieColumns columns) {
+            return columns.producerCount();
+        }
+
+        @Override
+        int start(MovieColumns columns, int row) {
+            return columns.producerStart(row);
+        }
+
+        @Override
+        int end(MovieColumns columns, int row) {
+            return columns.producerEnd(row);
+        }
+
+        @Override
+        int at(MovieColumns columns, int index) {
+            return columns.producerAt(index);
+        }
+
+        @Override
+        long id(MovieColumns columns, int code) {
+            return columns.producerId(code);
+        }
+
+        @Override
+        String name(MovieColumns columns, int code) {
+            return columns.producerName(code);
+        }
+    },
+
+    STUDIO {
+        @Override
+        int count(MovieColumns columns) {
+            return columns.studioCount();
+        }
+
+        @Override
+        int start(MovieColumns columns, int row) {
+            return columns.studioStart(row);
+        }
+
+        @Override
+        int end(MovieColumns columns, int row) {
+            return columns.studioEnd(row);
+        }
+
+        @Override
+        int at(MovieColumns columns, int index) {
+            return columns.studioAt(index);
+        }
+
+        @Override
+        long id(MovieColumns columns, int code) {
+            return columns.studioId(code);
+        }
+
+        @Override
+        String name(MovieColumns columns, int code) {
+            return columns.studioName(code);
+        }
+    };
+
+    abstract int count(MovieColumns columns);
+
+    abstract int start(MovieColumns columns, int row);
+
+    abstract int end(MovieColumns columns, int row);
+
+    abstract int at(MovieColumns columns, int index);
+
+    abstract long id(MovieColumns columns, int code);
+
+    abstract String name(MovieColumns columns, int code);
+}
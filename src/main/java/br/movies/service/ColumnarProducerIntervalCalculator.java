@@ -0,0 +1,150 @@
+package br.movies.service;
+
+import br.movies.config.IntervalProperties;
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calcula os intervalos sobre o armazenamento colunar com o {@link AwardIntervalEngine} na relação
+ * filme -> produtor: uma passada nos vencedores em ordem de ano, sem consultar a base. Acima de
+ * {@code movies.intervals.parallel-threshold} vitórias no total ({@link MovieColumns#winYearCount()},
+ * somadas entre todos os produtores) os produtores são repartidos num ForkJoinPool, cada parte lendo
+ * os anos já ordenados (int[]) dos seus produtores.
+ */
+@Component
+@RequiredArgsConstructor
+public class ColumnarProducerIntervalCalculator {
+
+    // Vitórias por tarefa folha: abaixo disso dividir custa mais que calcular
+    static final int LEAF_WINS = 16_384;
+
+    private final MovieColumnStore movieColumnStore;
+    private final IntervalProperties intervalProperties;
+
+    public ProducerIntervalResponse calculate() {
+        MovieColumns columns = movieColumnStore.current();
+        int threshold = intervalProperties.getParallelThreshold();
+        if (threshold > 0 && columns.winYearCount() >= threshold) {
+            return calculateParallel(columns, ForkJoinPool.commonPool());
+        }
+        return calculate(columns);
+    }
+
+    public static ProducerIntervalResponse calculate(MovieColumns columns) {
+        AwardIntervalEngine.AwardGrouping grouping = AwardIntervalEngine.calculate(columns, AwardRelation.PRODUCER);
+        return new ProducerIntervalResponse(toDtos(grouping.min()), toDtos(grouping.max()));
+    }
+
+    /**
+     * Mesmo resultado e mesma ordem de {@link #calculate(MovieColumns)}: cada parte devolve seus
+     * candidatos ao mínimo e ao máximo, as partes são juntadas na ordem dos produtores e a lista final
+     * é ordenada pelo mesmo comparador.
+     */
+    public static ProducerIntervalResponse calculateParallel(MovieColumns columns, ForkJoinPool pool) {
+        Candidates candidates = pool.invoke(new IntervalTask(columns, 0, columns.producerCount()));
+        candidates.minIntervals.sort(AwardIntervalEngine.INTERVAL_ORDER);
+        candidates.maxIntervals.sort(AwardIntervalEngine.INTERVAL_ORDER);
+        return new ProducerIntervalResponse(toDtos(candidates.minIntervals), toDtos(candidates.maxIntervals));
+    }
+
+    private static List<ProducerInterval> toDtos(List<AwardIntervalEngine.AwardInterval> intervals) {
+        List<ProducerInterval> dtos = new ArrayList<>(intervals.size());
+        for (AwardIntervalEngine.AwardInterval interval : intervals) {
+            dtos.add(new ProducerInterval(interval.name(), interval.interval(), interval.previousWin(),
+                    interval.followingWin()));
+        }
+        return dtos;
+    }
+
+    // Candidatos de um intervalo de produtores; vazio tem min = MAX_VALUE e max = MIN_VALUE
+    private static final class Candidates {
+        private int minInterval = Integer.MAX_VALUE;
+        private int maxInterval = Integer.MIN_VALUE;
+        private final List<AwardIntervalEngine.AwardInterval> minIntervals = new ArrayList<>();
+        private final List<AwardIntervalEngine.AwardInterval> maxIntervals = new ArrayList<>();
+
+        // Junta a parte seguinte (produtores de código maior), mantendo a ordem de produtor
+        private Candidates merge(Candidates next) {
+            if (next.minInterval < minInterval) {
+                minInterval = next.minInterval;
+                minIntervals.clear();
+            }
+            if (next.minInterval == minInterval) {
+                minIntervals.addAll(next.minIntervals);
+            }
+            if (next.maxInterval > maxInterval) {
+                maxInterval = next.maxInterval;
+                maxIntervals.clear();
+            }
+            if (next.maxInterval == maxInterval) {
+                maxIntervals.addAll(next.maxIntervals);
+            }
+            return this;
+        }
+    }
+
+    private static final class IntervalTask extends RecursiveTask<Candidates> {
+        private final MovieColumns columns;
+        private final int fromProducer;
+        private final int toProducer;
+
+        private IntervalTask(MovieColumns columns, int fromProducer, int toProducer) {
+            this.columns = columns;
+            this.fromProducer = fromProducer;
+            this.toProducer = toProducer;
+        }
+
+        @Override
+        protected Candidates compute() {
+            int wins = columns.winStart(toProducer) - columns.winStart(fromProducer);
+            if (wins <= LEAF_WINS || toProducer - fromProducer < 2) {
+                return computeLeaf();
+            }
+            int middle = (fromProducer + toProducer) >>> 1;
+            IntervalTask right = new IntervalTask(columns, middle, toProducer);
+            right.fork();
+            Candidates left = new IntervalTask(columns, fromProducer, middle).compute();
+            return left.merge(right.join());
+        }
+
+        private Candidates computeLeaf() {
+            Candidates candidates = new Candidates();
+            for (int producer = fromProducer; producer < toProducer; producer++) {
+                for (int i = columns.winStart(producer) + 1; i < columns.winEnd(producer); i++) {
+                    int interval = columns.winYear(i) - columns.winYear(i - 1);
+                    if (interval < candidates.minInterval) {
+                        candidates.minInterval = interval;
+                        candidates.minIntervals.clear();
+                    }
+                    if (interval == candidates.minInterval) {
+                        candidates.minIntervals.add(interval(producer, i));
+                    }
+                    if (interval > candidates.maxInterval) {
+                        candidates.maxInterval = interval;
+                        candidates.maxIntervals.clear();
+                    }
+                    if (interval == candidates.maxInterval) {
+                        candidates.maxIntervals.add(interval(producer, i));
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private AwardIntervalEngine.AwardInterval interval(int producer, int index) {
+            int previousWin = columns.winYear(index - 1);
+            int followingWin = columns.winYear(index);
+            return new AwardIntervalEngine.AwardInterval(columns.producerId(producer), columns.producerName(producer),
+                    followingWin - previousWin, previousWin, followingWin);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.movies.service;
+
+/**
+ * Filtros de consulta de intervalos; campos nulos não restringem. Faixas invertidas ou intervalos
+ * negativos são rejeitados na criação com {@link InvalidQueryException}.
+ */
+public record IntervalQuery(
+        boolean longestFirst,
+        Integer minInterval,
+        Integer maxInterval,
+        Integer fromYear,
+        Integer toYear
+) {
+
+    public IntervalQuery {
+        if ((minInterval != null && minInterval < 0) || (maxInterval != null && maxInterval < 0)) {
+            throw new InvalidQueryException("minInterval and maxInterval must not be negative");
+        }
+        if (minInterval != null && maxInterval != null && minInterval > maxInterval) {
+            throw new InvalidQueryException("minInterval must not be greater than maxInterval");
+        }
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new InvalidQueryException("fromYear must not be after toYear");
+        }
+    }
+
+    public static IntervalQuery shortest() {
+        return new IntervalQuery(false, null, null, null, null);
+    }
+
+    public static IntervalQuery longest() {
+        return new IntervalQuery(true, null, null, null, null);
+    }
+
+    boolean acceptsYears(int previousWin, int followingWin) {
+        return (fromYear == null || previousWin >= fromYear) && (toYear == null || followingWin <= toYear);
+    }
+}
@@ -0,0 +1,16 @@
+package br.movies.service;
+
+/**
+ * Parâmetro ou corpo de requisição inválido. É a única exceção que o {@code ApiExceptionHandler}
+ * devolve como 400 com a mensagem, então só deve carregar texto pensado para o cliente.
+ */
+public class InvalidQueryException extends RuntimeException {
+
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+
+    public InvalidQueryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,103 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.ProducerWinView;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Calcula os intervalos na JVM percorrendo a projeção (produtor, ano) ordenada, sem carregar
+ * entidades: só os candidatos ao mínimo e ao máximo ficam em memória.
+ */
+@Component
+@RequiredArgsConstructor
+public class JvmProducerIntervalCalculator {
+
+    // Ordem determinística das listas de resposta, a mesma do índice em memória
+    public static final Comparator<ProducerInterval> RESPONSE_ORDER = Comparator
+            .comparing(ProducerInterval::getProducer)
+            .thenComparing(ProducerInterval::getPreviousWin)
+            .thenComparing(ProducerInterval::getFollowingWin);
+
+    private final MovieRepository movieRepository;
+    private final MeterRegistry meterRegistry;
+
+    // fetch: execução da consulta até o cursor abrir; compute: percorrer as linhas e montar a resposta
+    @Transactional(readOnly = true)
+    public ProducerIntervalResponse calculate() {
+        long start = System.nanoTime();
+        try (Stream<ProducerWinView> wins = movieRepository.streamProducerWins()) {
+            long opened = System.nanoTime();
+            ProducerIntervalResponse response = calculate(wins.iterator());
+            recordStage(meterRegistry, "jvm", "fetch", opened - start);
+            recordStage(meterRegistry, "jvm", "compute", System.nanoTime() - opened);
+            return response;
+        }
+    }
+
+    static void recordStage(MeterRegistry meterRegistry, String strategy, String stage, long nanos) {
+        Timer.builder("movies.intervals.stage")
+                .description("Interval calculation time split into repository fetch and compute")
+                .tag("strategy", strategy)
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Espera as vitórias ordenadas por produtor e ano.
+     */
+    public static ProducerIntervalResponse calculate(Iterator<ProducerWinView> wins) {
+        List<ProducerInterval> minIntervals = new ArrayList<>();
+        List<ProducerInterval> maxIntervals = new ArrayList<>();
+        int minIntervalValue = Integer.MAX_VALUE;
+        int maxIntervalValue = Integer.MIN_VALUE;
+
+        Long previousProducer = null;
+        int previousYear = 0;
+
+        while (wins.hasNext()) {
+            ProducerWinView win = wins.next();
+            int year = win.getYearMovie();
+
+            if (win.getProducerId().equals(previousProducer)) {
+                int interval = year - previousYear;
+
+                if (interval < minIntervalValue) {
+                    minIntervalValue = interval;
+                    minIntervals.clear();
+                }
+                if (interval == minIntervalValue) {
+                    minIntervals.add(new ProducerInterval(win.getProducerName(), interval, previousYear, year));
+                }
+
+                if (interval > maxIntervalValue) {
+                    maxIntervalValue = interval;
+                    maxIntervals.clear();
+                }
+                if (interval == maxIntervalValue) {
+                    maxIntervals.add(new ProducerInterval(win.getProducerName(), interval, previousYear, year));
+                }
+            }
+
+            previousProducer = win.getProducerId();
+            previousYear = year;
+        }
+
+        minIntervals.sort(RESPONSE_ORDER);
+        maxIntervals.sort(RESPONSE_ORDER);
+        return new ProducerIntervalResponse(minIntervals, maxIntervals);
+    }
+}
@@ -0,0 +1,8 @@
+package br.movies.service;
+
+public class MovieNotFoundException extends RuntimeException {
+
+    public MovieNotFoundException(Long id) {
+        super("Movie " + id + " not found");
+    }
+}
@@ -0,0 +1,15 @@
+package br.movies.service;
+
+/**
+ * Filtros da consulta de filmes sobre o armazenamento colunar; campos nulos não restringem.
+ * Produtor e estúdio são comparados pela chave de {@link br.movies.datasource.NameKeys#normalize}, sem
+ * diferenciar maiúsculas nem espaços extras.
+ */
+public record MovieQuery(
+        Integer fromYear,
+        Integer toYear,
+        Boolean winner,
+        String producer,
+        String studio
+) {
+}
@@ -0,0 +1,148 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.MovieSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consultas de leitura direto nas colunas: os filtros comparam ints, bits e códigos de dicionário,
+ * e só as linhas devolvidas viram objetos.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieQueryService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final MovieColumnStore movieColumnStore;
+
+    public List<MovieSummary> search(MovieQuery query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidQueryException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        MovieColumns columns = movieColumnStore.current();
+        Filter filter = new Filter(columns, query);
+        List<MovieSummary> result = new ArrayList<>(Math.min(limit, 64));
+        if (filter.empty) {
+            return result;
+        }
+        for (int row = filter.first(); row >= 0 && result.size() < limit; row = filter.next(row)) {
+            if (filter.matches(row)) {
+                result.add(toSummary(columns, row));
+            }
+        }
+        return result;
+    }
+
+    public MovieSummary findById(Long id) {
+        MovieColumns columns = movieColumnStore.current();
+        int row = columns.rowOf(id);
+        if (row < 0) {
+            throw new MovieNotFoundException(id);
+        }
+        return toSummary(columns, row);
+    }
+
+    public long count(MovieQuery query) {
+        MovieColumns columns = movieColumnStore.current();
+        Filter filter = new Filter(columns, query);
+        if (filter.empty) {
+            return 0;
+        }
+        long count = 0;
+        for (int row = filter.first(); row >= 0; row = filter.next(row)) {
+            if (filter.matches(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static MovieSummary toSummary(MovieColumns columns, int row) {
+        List<String> studios = new ArrayList<>(columns.studioEnd(row) - columns.studioStart(row));
+        for (int i = columns.studioStart(row); i < columns.studioEnd(row); i++) {
+            studios.add(columns.studioName(columns.studioAt(i)));
+        }
+        List<String> producers = new ArrayList<>(columns.producerEnd(row) - columns.producerStart(row));
+        for (int i = columns.producerStart(row); i < columns.producerEnd(row); i++) {
+            producers.add(columns.producerName(columns.producerAt(i)));
+        }
+        return new MovieSummary(columns.id(row), columns.year(row), columns.title(row), columns.winner(row),
+                studios, producers);
+    }
+
+    // Filtro resolvido uma vez por consulta: nomes viram códigos e nulos viram limites abertos
+    private static final class Filter {
+        private final MovieColumns columns;
+        private final int fromYear;
+        private final int toYear;
+        private final Boolean winner;
+        private final int producer;
+        private final int studio;
+        private final boolean empty;
+
+        private Filter(MovieColumns columns, MovieQuery query) {
+            this.columns = columns;
+            this.fromYear = query.fromYear() != null ? query.fromYear() : Integer.MIN_VALUE;
+            this.toYear = query.toYear() != null ? query.toYear() : Integer.MAX_VALUE;
+            this.winner = query.winner();
+            this.producer = query.producer() != null ? columns.producerCode(query.producer()) : -1;
+            this.studio = query.studio() != null ? columns.studioCode(query.studio()) : -1;
+            // Nome desconhecido no dicionário: nenhum filme pode casar
+            this.empty = (query.producer() != null && producer < 0) || (query.studio() != null && studio < 0);
+        }
+
+        // Só vencedores: percorre os bits ligados em vez de todas as linhas
+        private int first() {
+            if (Boolean.TRUE.equals(winner)) {
+                return columns.nextWinner(0);
+            }
+            return columns.size() > 0 ? 0 : -1;
+        }
+
+        private int next(int row) {
+            if (Boolean.TRUE.equals(winner)) {
+                return columns.nextWinner(row + 1);
+            }
+            return row + 1 < columns.size() ? row + 1 : -1;
+        }
+
+        private boolean matches(int row) {
+            int year = columns.year(row);
+            if (year < fromYear || year > toYear) {
+                return false;
+            }
+            if (Boolean.FALSE.equals(winner) && columns.winner(row)) {
+                return false;
+            }
+            if (producer >= 0 && !containsProducer(row)) {
+                return false;
+            }
+            return studio < 0 || containsStudio(row);
+        }
+
+        private boolean containsProducer(int row) {
+            for (int i = columns.producerStart(row); i < columns.producerEnd(row); i++) {
+                if (columns.producerAt(i) == producer) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean containsStudio(int row) {
+            for (int i = columns.studioStart(row); i < columns.studioEnd(row); i++) {
+                if (columns.studioAt(i) == studio) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package br.movies.service;
+
+import br.movies.config.LoaderProperties;
+import br.movies.datasource.NameKeys;
+import br.movies.datasource.ProducerStudioLookup;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.dto.MovieBulkResult;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.MovieSummary;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inclusão, alteração e remoção de filmes pela API. Produtores e estúdios são resolvidos pelo
+ * {@link ProducerStudioLookup} e as alterações passam pelas entidades, então o índice de intervalos,
+ * a cópia colunar e o cache das respostas recebem só os filmes afetados depois do commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieWriteService {
+
+    public static final int MAX_BULK_SIZE = 10_000;
+    // Tamanho das colunas title e name (varchar(255)): acima disso o banco rejeitaria a gravação
+    public static final int MAX_NAME_LENGTH = 255;
+
+    private final EntityManager entityManager;
+    private final ProducerStudioLookup producerStudioLookup;
+    private final MovieChangeTracker movieChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final LoaderProperties loaderProperties;
+
+    private record ValidMovie(int year, String title, boolean winner, List<String> studios, List<String> producers) {
+    }
+
+    @Transactional
+    public MovieSummary create(MovieRequest request) {
+        ValidMovie movie = validate(request);
+        Movie entity = newMovie(movie);
+        entityManager.persist(entity);
+        return toSummary(entity, entity.getStudios(), entity.getProducers());
+    }
+
+    /**
+     * Carrega o filme com as ligações numa consulta só ({@link Movie#WITH_LINKS}) e troca as coleções
+     * no lugar: o flush grava só as ligações incluídas ou removidas, qualquer que seja o tamanho da lista.
+     */
+    @Transactional
+    public MovieSummary update(Long id, MovieRequest request) {
+        ValidMovie movie = validate(request);
+        Movie entity = entityManager.find(Movie.class, id,
+                Map.<String, Object>of(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Movie.WITH_LINKS)));
+        if (entity == null) {
+            throw new MovieNotFoundException(id);
+        }
+        Set<Studio> studios = producerStudioLookup.studios(movie.studios());
+        Set<Producer> producers = producerStudioLookup.producers(movie.producers());
+        entity.setYearMovie(movie.year());
+        entity.setTitle(movie.title());
+        entity.setWinner(movie.winner());
+        entity.replaceStudios(studios);
+        entity.replaceProducers(producers);
+        // Trocar só as ligações não suja a linha do filme e o @PostUpdate não dispara: avisa o rastreador
+        movieChangeTracker.movieChanged(entity.getId());
+        // A coleção gerenciada não guarda a ordem pedida; a resposta segue a ordem dos nomes
+        return toSummary(entity, studios, producers);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        Movie entity = entityManager.find(Movie.class, id);
+        if (entity == null) {
+            throw new MovieNotFoundException(id);
+        }
+        entityManager.remove(entity);
+    }
+
+    /**
+     * Grava todos os filmes numa única transação (tudo ou nada), descarregando o contexto a cada
+     * {@code movies.loader.batch-size} filmes para que os INSERTs saiam em lotes JDBC. O rastreador
+     * publica um só evento com todos os ids no commit.
+     */
+    public MovieBulkResult createAll(List<MovieRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidQueryException("at least one movie is required");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new InvalidQueryException("at most " + MAX_BULK_SIZE + " movies per request");
+        }
+
+        // Valida tudo antes de abrir a transação: um item inválido não grava nada
+        List<ValidMovie> movies = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                movies.add(validate(requests.get(i)));
+            } catch (InvalidQueryException e) {
+                throw new InvalidQueryException("movie " + i + ": " + e.getMessage(), e);
+            }
+        }
+
+        int batchSize = Math.max(1, loaderProperties.getBatchSize());
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> created = new ArrayList<>(movies.size());
+            for (ValidMovie movie : movies) {
+                Movie entity = newMovie(movie);
+                entityManager.persist(entity);
+                created.add(entity.getId());
+                if (created.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            return created;
+        });
+        return new MovieBulkResult(ids.size(), ids);
+    }
+
+    private Movie newMovie(ValidMovie movie) {
+        return Movie.builder()
+                .yearMovie(movie.year())
+                .title(movie.title())
+                .winner(movie.winner())
+                .studios(producerStudioLookup.studios(movie.studios()))
+                .producers(producerStudioLookup.producers(movie.producers()))
+                .source(Movie.Source.API)
+                .build();
+    }
+
+    private static ValidMovie validate(MovieRequest request) {
+        if (request == null) {
+            throw new InvalidQueryException("movie is required");
+        }
+        if (request.getYear() == null) {
+            throw new InvalidQueryException("year is required");
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new InvalidQueryException("title is required");
+        }
+        String title = request.getTitle().trim();
+        if (title.length() > MAX_NAME_LENGTH) {
+            throw new InvalidQueryException("title must have at most " + MAX_NAME_LENGTH + " characters");
+        }
+        return new ValidMovie(request.getYear(), title, Boolean.TRUE.equals(request.getWinner()),
+                names(request.getStudios(), "studio"), names(request.getProducers(), "producer"));
+    }
+
+    // Nomes aparados e sem repetição exata; variações de grafia são juntadas pelo lookup
+    private static List<String> names(List<String> names, String kind) {
+        if (names == null) {
+            return List.of();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                throw new InvalidQueryException(kind + " name must not be blank");
+            }
+            String trimmed = name.trim();
+            // A chave também vai para uma coluna de 255, e o NFKC pode expandir alguns caracteres
+            if (trimmed.length() > MAX_NAME_LENGTH || NameKeys.normalize(trimmed).length() > MAX_NAME_LENGTH) {
+                throw new InvalidQueryException(kind + " name must have at most " + MAX_NAME_LENGTH + " characters");
+            }
+            result.add(trimmed);
+        }
+        return List.copyOf(result);
+    }
+
+    // Nomes como ficaram gravados: variações e apelidos aparecem com a grafia canônica
+    private static MovieSummary toSummary(Movie movie, Set<Studio> studios, Set<Producer> producers) {
+        return new MovieSummary(movie.getId(), movie.getYearMovie(), movie.getTitle(), movie.getWinner(),
+                studios.stream().map(Studio::getName).toList(),
+                producers.stream().map(Producer::getName).toList());
+    }
+}
@@ -1,82 +1,67 @@
 package br.movies.service;
 
-import br.movies.datasource.entity.Movie;
-import br.movies.datasource.entity.Producer;
-import br.movies.datasource.repository.MovieRepository;
-import br.movies.dto.ProducerInterval;
+import br.movies.config.IntervalProperties;
 import br.movies.dto.ProducerIntervalResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class ProducerAwardIntervalService {
 
-    private final MovieRepository movieRepository;
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final JvmProducerIntervalCalculator jvmProducerIntervalCalculator;
+    private final SqlProducerIntervalCalculator sqlProducerIntervalCalculator;
+    private final ColumnarProducerIntervalCalculator columnarProducerIntervalCalculator;
+    private final IntervalProperties intervalProperties;
+    private final MeterRegistry meterRegistry;
 
+    // Tempo total por estratégia e tamanho das listas; JVM e SQL também separam busca e cálculo
     public ProducerIntervalResponse getProducerIntervals() {
-        // Busca todos filmes vencedores ordenado por ano
-        List<Movie> winningMovies = movieRepository.findByWinnerTrueOrderByYearMovie();
-
-        // Agrupa filmes por produtor e os anos vencedores
-        Map<Producer, List<Integer>> producerYears = new HashMap<>();
-
-        for (Movie movie : winningMovies) {
-            for (Producer producer : movie.getProducers()) {
-                producerYears.computeIfAbsent(producer, k -> new ArrayList<>()).add(movie.getYearMovie());
-            }
-        }
-
-        // Cálcula intervalo para produtores com múltiplos prêmios
-        List<ProducerInterval> intervals = new ArrayList<>();
-
-        for (Map.Entry<Producer, List<Integer>> entry : producerYears.entrySet()) {
-            List<Integer> years = entry.getValue();
-            if (years.size() >= 2) {
-                Collections.sort(years);
-                Producer producer = entry.getKey();
-
-                // Calcula todos intervalos consecutivos do produtor
-                for (int i = 1; i < years.size(); i++) {
-                    int interval = years.get(i) - years.get(i - 1);
-                    intervals.add(new ProducerInterval(
-                            producer.getName(),
-                            interval,
-                            years.get(i - 1),
-                            years.get(i)
-                    ));
-                }
-            }
-        }
-
-        // Caso não haja intervalos
-        if (intervals.isEmpty()) {
-            return new ProducerIntervalResponse(new ArrayList<>(), new ArrayList<>());
-        }
-
-        // Calcula o valor mínimo e o máximo
-        int minIntervalValue = intervals.stream()
-                .mapToInt(ProducerInterval::getInterval)
-                .min()
-                .orElse(0);
-
-        int maxIntervalValue = intervals.stream()
-                .mapToInt(ProducerInterval::getInterval)
-                .max()
-                .orElse(0);
+        IntervalProperties.Strategy strategy = intervalProperties.getStrategy();
+        long start = System.nanoTime();
+        ProducerIntervalResponse response = calculate(strategy);
+
+        String tag = strategy.name().toLowerCase(Locale.ROOT);
+        Timer.builder("movies.intervals.calculate")
+                .tag("strategy", tag)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        recordSize(tag, "min", response.getMin().size());
+        recordSize(tag, "max", response.getMax().size());
+        return response;
+    }
 
-        // Agrupa por intervalo mínimo e máximo, garantido que intervalos iguais sejam considerados
-        List<ProducerInterval> minIntervals = intervals.stream()
-                .filter(pi -> pi.getInterval() == minIntervalValue)
-                .collect(Collectors.toList());
+    /**
+     * Mesmo cálculo de {@link #getProducerIntervals()}, sem registrar tempo nem tamanho: usado pelo
+     * aquecimento, que não deve aparecer nas métricas das requisições.
+     */
+    public ProducerIntervalResponse calculate() {
+        return calculate(intervalProperties.getStrategy());
+    }
 
-        List<ProducerInterval> maxIntervals = intervals.stream()
-                .filter(pi -> pi.getInterval() == maxIntervalValue)
-                .collect(Collectors.toList());
+    private ProducerIntervalResponse calculate(IntervalProperties.Strategy strategy) {
+        return switch (strategy) {
+            case INDEX -> producerIntervalIndex.getProducerIntervals();
+            // Busca as vitórias (produtor, ano) numa única consulta e calcula os intervalos em streaming
+            case JVM -> jvmProducerIntervalCalculator.calculate();
+            case SQL -> sqlProducerIntervalCalculator.calculate();
+            case COLUMNAR -> columnarProducerIntervalCalculator.calculate();
+        };
+    }
 
-        return new ProducerIntervalResponse(minIntervals, maxIntervals);
+    private void recordSize(String strategy, String list, int size) {
+        DistributionSummary.builder("movies.intervals.result.size")
+                .description("Intervals returned per list (ties included)")
+                .tag("strategy", strategy)
+                .tag("list", list)
+                .register(meterRegistry)
+                .record(size);
     }
-}
\ No newline at end of file
+}
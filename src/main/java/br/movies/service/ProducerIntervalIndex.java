@@ -0,0 +1,396 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória dos intervalos entre prêmios. Guarda, por produtor, os anos de vitória num
+ * int[] ordenado e, globalmente, os intervalos agrupados pelo tamanho. É mantido de forma
+ * incremental a cada filme alterado, então a leitura de min/max não acessa a base.
+ */
+@Component
+public class ProducerIntervalIndex {
+
+    static final Comparator<IntervalEntry> ENTRY_ORDER = Comparator
+            .comparing(IntervalEntry::producer)
+            .thenComparingInt(IntervalEntry::previousWin)
+            .thenComparingInt(IntervalEntry::followingWin)
+            .thenComparingLong(IntervalEntry::producerId)
+            .thenComparingLong(IntervalEntry::followingMovieId);
+
+    // followingMovieId desempata vitórias repetidas no mesmo ano, que geram intervalos idênticos
+    record IntervalEntry(String producer, long producerId, int previousWin, int followingWin, long followingMovieId) {
+
+        int interval() {
+            return followingWin - previousWin;
+        }
+
+        ProducerInterval toDto() {
+            return new ProducerInterval(producer, interval(), previousWin, followingWin);
+        }
+    }
+
+    /**
+     * Primeiro bloco dos grupos mínimo e máximo, lidos da mesma versão do índice.
+     */
+    record ExtremeChunks(long version, List<IntervalEntry> shortest, List<IntervalEntry> longest) {
+    }
+
+    private record WinningMovie(int year, long[] producerIds) {
+    }
+
+    // Vitórias ordenadas por (ano, filme) em arrays paralelos
+    private static final class ProducerWins {
+        private final long id;
+        private final String name;
+        private int[] years = new int[2];
+        private long[] movieIds = new long[2];
+        private int size;
+
+        private ProducerWins(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private void add(int year, long movieId) {
+            int position = search(year, movieId);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == years.length) {
+                years = Arrays.copyOf(years, size * 2);
+                movieIds = Arrays.copyOf(movieIds, size * 2);
+            }
+            System.arraycopy(years, position, years, position + 1, size - position);
+            System.arraycopy(movieIds, position, movieIds, position + 1, size - position);
+            years[position] = year;
+            movieIds[position] = movieId;
+            size++;
+        }
+
+        // Só no rebuild, com as vitórias chegando já ordenadas; ignora o produtor repetido no mesmo filme
+        private void append(int year, long movieId) {
+            if (size > 0 && years[size - 1] == year && movieIds[size - 1] == movieId) {
+                return;
+            }
+            if (size == years.length) {
+                years = Arrays.copyOf(years, size * 2);
+                movieIds = Arrays.copyOf(movieIds, size * 2);
+            }
+            years[size] = year;
+            movieIds[size] = movieId;
+            size++;
+        }
+
+        private void remove(int year, long movieId) {
+            int position = search(year, movieId);
+            if (position >= 0) {
+                System.arraycopy(years, position + 1, years, position, size - position - 1);
+                System.arraycopy(movieIds, position + 1, movieIds, position, size - position - 1);
+                size--;
+            }
+        }
+
+        // Mesmo contrato de Arrays.binarySearch: posição encontrada ou -(ponto de inserção) - 1
+        private int search(int year, long movieId) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int compare = years[middle] != year ? Integer.compare(years[middle], year)
+                        : Long.compare(movieIds[middle], movieId);
+                if (compare < 0) {
+                    low = middle + 1;
+                } else if (compare > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private IntervalEntry entry(int index) {
+            return new IntervalEntry(name, id, years[index - 1], years[index], movieIds[index]);
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Só filmes vencedores contribuem com anos
+    private final Map<Long, WinningMovie> winningMovies = new HashMap<>();
+    private final Map<Long, ProducerWins> producers = new HashMap<>();
+    private final TreeMap<Integer, NavigableSet<IntervalEntry>> buckets = new TreeMap<>();
+    // Incrementada a cada rebuild/apply; quem lê em blocos confere que continua na mesma versão
+    private long version;
+
+    public ProducerIntervalResponse getProducerIntervals() {
+        lock.readLock().lock();
+        try {
+            if (buckets.isEmpty()) {
+                return new ProducerIntervalResponse(new ArrayList<>(), new ArrayList<>());
+            }
+            return new ProducerIntervalResponse(toDtos(buckets.firstEntry().getValue()),
+                    toDtos(buckets.lastEntry().getValue()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lê até {@code limit} entradas de cada grupo extremo sob um único lock de leitura, junto com a
+     * versão do índice. O restante dos grupos é lido com {@link #extremeChunk}.
+     */
+    ExtremeChunks extremes(int limit) {
+        lock.readLock().lock();
+        try {
+            if (buckets.isEmpty()) {
+                return new ExtremeChunks(version, List.of(), List.of());
+            }
+            return new ExtremeChunks(version, head(buckets.firstEntry().getValue(), limit),
+                    head(buckets.lastEntry().getValue(), limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Próximas {@code limit} entradas do grupo de {@code after}, desde que o índice ainda esteja na
+     * versão {@code expectedVersion}; se mudou, o grupo pode ter outras entradas e a leitura é abortada.
+     */
+    List<IntervalEntry> extremeChunk(long expectedVersion, IntervalEntry after, int limit) {
+        lock.readLock().lock();
+        try {
+            if (version != expectedVersion) {
+                throw new ConcurrentModificationException("Award intervals changed while streaming, retry the request");
+            }
+            return head(buckets.get(after.interval()).tailSet(after, false), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<IntervalEntry> head(NavigableSet<IntervalEntry> entries, int limit) {
+        List<IntervalEntry> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (IntervalEntry entry : entries) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Percorre os grupos de intervalo já ordenados (menor ou maior primeiro) a partir do cursor
+     * {@code after}, sem ordenar a lista completa; devolve no máximo {@code limit} entradas.
+     */
+    List<IntervalEntry> findIntervals(IntervalQuery query, IntervalEntry after, int limit) {
+        lock.readLock().lock();
+        try {
+            int from = query.minInterval() != null ? query.minInterval() : Integer.MIN_VALUE;
+            int to = query.maxInterval() != null ? query.maxInterval() : Integer.MAX_VALUE;
+            if (from > to) {
+                return List.of();
+            }
+
+            NavigableMap<Integer, NavigableSet<IntervalEntry>> range = buckets.subMap(from, true, to, true);
+            if (query.longestFirst()) {
+                range = range.descendingMap();
+            }
+            if (after != null) {
+                range = range.tailMap(after.interval(), true);
+            }
+
+            List<IntervalEntry> result = new ArrayList<>(Math.min(limit, 1024));
+            for (Map.Entry<Integer, NavigableSet<IntervalEntry>> bucket : range.entrySet()) {
+                NavigableSet<IntervalEntry> entries = bucket.getValue();
+                if (after != null && bucket.getKey() == after.interval()) {
+                    entries = entries.tailSet(after, false);
+                }
+                for (IntervalEntry entry : entries) {
+                    if (query.acceptsYears(entry.previousWin(), entry.followingWin())) {
+                        result.add(entry);
+                        if (result.size() == limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo pelos vencedores informados. Monta o índice em lote: os filmes
+     * vencedores são ordenados uma vez por (ano, filme), cada vitória é anexada ao fim dos arrays do
+     * produtor e cada intervalo entra no seu grupo uma única vez.
+     */
+    public void rebuild(List<MovieProducerView> winners) {
+        Map<Long, List<MovieProducerView>> byMovie = groupByMovie(winners);
+
+        lock.writeLock().lock();
+        try {
+            winningMovies.clear();
+            producers.clear();
+            buckets.clear();
+
+            byMovie.forEach((movieId, rows) -> {
+                WinningMovie movie = winningMovie(rows);
+                if (movie == null) {
+                    return;
+                }
+                winningMovies.put(movieId, movie);
+                for (MovieProducerView row : rows) {
+                    if (row.getProducerId() != null) {
+                        producers.computeIfAbsent(row.getProducerId(), id -> new ProducerWins(id, row.getProducerName()));
+                    }
+                }
+            });
+
+            List<Map.Entry<Long, WinningMovie>> ordered = new ArrayList<>(winningMovies.entrySet());
+            ordered.sort(Map.Entry.<Long, WinningMovie>comparingByValue(Comparator.comparingInt(WinningMovie::year))
+                    .thenComparing(Map.Entry.comparingByKey()));
+            for (Map.Entry<Long, WinningMovie> entry : ordered) {
+                for (long producerId : entry.getValue().producerIds()) {
+                    producers.get(producerId).append(entry.getValue().year(), entry.getKey());
+                }
+            }
+
+            producers.values().forEach(this::addIntervals);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica o estado atual dos filmes alterados. Ids sem linhas em {@code current} foram removidos.
+     */
+    public void apply(Collection<Long> movieIds, List<MovieProducerView> current) {
+        Map<Long, List<MovieProducerView>> byMovie = groupByMovie(current);
+
+        lock.writeLock().lock();
+        try {
+            for (Long movieId : movieIds) {
+                removeMovie(movieId);
+                List<MovieProducerView> rows = byMovie.get(movieId);
+                if (rows != null) {
+                    addMovie(movieId, rows);
+                }
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, List<MovieProducerView>> groupByMovie(List<MovieProducerView> rows) {
+        Map<Long, List<MovieProducerView>> byMovie = new LinkedHashMap<>();
+        for (MovieProducerView row : rows) {
+            byMovie.computeIfAbsent(row.getMovieId(), id -> new ArrayList<>(1)).add(row);
+        }
+        return byMovie;
+    }
+
+    // Só filmes vencedores com ano contribuem; null nos demais
+    private static WinningMovie winningMovie(List<MovieProducerView> rows) {
+        MovieProducerView first = rows.get(0);
+        if (!Boolean.TRUE.equals(first.getWinner()) || first.getYearMovie() == null) {
+            return null;
+        }
+        long[] producerIds = rows.stream()
+                .filter(row -> row.getProducerId() != null)
+                .mapToLong(MovieProducerView::getProducerId)
+                .toArray();
+        return new WinningMovie(first.getYearMovie(), producerIds);
+    }
+
+    // Caminho incremental, usado pelo apply: refaz os intervalos de cada produtor do filme
+    private void addMovie(Long movieId, List<MovieProducerView> rows) {
+        WinningMovie movie = winningMovie(rows);
+        if (movie == null) {
+            return;
+        }
+        int year = movie.year();
+        winningMovies.put(movieId, movie);
+
+        for (MovieProducerView row : rows) {
+            if (row.getProducerId() == null) {
+                continue;
+            }
+            ProducerWins wins = producers.computeIfAbsent(row.getProducerId(),
+                    id -> new ProducerWins(id, row.getProducerName()));
+            removeIntervals(wins);
+            wins.add(year, movieId);
+            addIntervals(wins);
+        }
+    }
+
+    private void removeMovie(Long movieId) {
+        WinningMovie movie = winningMovies.remove(movieId);
+        if (movie == null) {
+            return;
+        }
+
+        for (long producerId : movie.producerIds()) {
+            ProducerWins wins = producers.get(producerId);
+            if (wins == null) {
+                continue;
+            }
+            removeIntervals(wins);
+            wins.remove(movie.year(), movieId);
+            if (wins.size == 0) {
+                producers.remove(producerId);
+            } else {
+                addIntervals(wins);
+            }
+        }
+    }
+
+    private void addIntervals(ProducerWins wins) {
+        for (int i = 1; i < wins.size; i++) {
+            IntervalEntry entry = wins.entry(i);
+            buckets.computeIfAbsent(entry.interval(), k -> new TreeSet<>(ENTRY_ORDER)).add(entry);
+        }
+    }
+
+    private void removeIntervals(ProducerWins wins) {
+        for (int i = 1; i < wins.size; i++) {
+            IntervalEntry entry = wins.entry(i);
+            NavigableSet<IntervalEntry> bucket = buckets.get(entry.interval());
+            if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+                buckets.remove(entry.interval());
+            }
+        }
+    }
+
+    private List<ProducerInterval> toDtos(Collection<IntervalEntry> entries) {
+        List<ProducerInterval> dtos = new ArrayList<>(entries.size());
+        for (IntervalEntry entry : entries) {
+            dtos.add(entry.toDto());
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,53 @@
+package br.movies.service;
+
+import br.movies.datasource.event.MoviesChangedEvent;
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.datasource.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@RequiredArgsConstructor
+public class ProducerIntervalIndexUpdater {
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private final MovieRepository movieRepository;
+    private final ProducerIntervalIndex producerIntervalIndex;
+
+    private final Lock lock = new ReentrantLock();
+
+    // O evento chega no afterCommit, por isso a leitura precisa de uma transação própria.
+    // O lock garante que leitura e aplicação de alterações concorrentes não se intercalem
+    // (ReentrantLock em vez de synchronized para não prender a carrier de uma virtual thread no JDBC).
+    @EventListener
+    @Order(0)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        lock.lock();
+        try {
+            if (event.reload()) {
+                producerIntervalIndex.rebuild(movieRepository.findWinnerProducerViews());
+                return;
+            }
+
+            List<Long> ids = new ArrayList<>(event.movieIds());
+            for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + IDS_PER_QUERY));
+                List<MovieProducerView> current = movieRepository.findProducerViewsByMovieIds(chunk);
+                producerIntervalIndex.apply(chunk, current);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
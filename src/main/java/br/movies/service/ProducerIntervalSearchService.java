@@ -0,0 +1,61 @@
+package br.movies.service;
+
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProducerIntervalSearchService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final ProducerIntervalIndex producerIntervalIndex;
+
+    public ProducerIntervalPage search(IntervalQuery query, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidQueryException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        ProducerIntervalIndex.IntervalEntry after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+        // Busca uma entrada a mais para saber se existe próxima página
+        List<ProducerIntervalIndex.IntervalEntry> entries = producerIntervalIndex.findIntervals(query, after, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        List<ProducerInterval> intervals = new ArrayList<>(entries.size());
+        for (ProducerIntervalIndex.IntervalEntry entry : entries) {
+            intervals.add(entry.toDto());
+        }
+
+        String nextCursor = hasMore ? encodeCursor(entries.get(entries.size() - 1)) : null;
+        return new ProducerIntervalPage(intervals, nextCursor);
+    }
+
+    // Cursor opaco com a posição da última entrada devolvida: ano anterior, ano seguinte, id, filme e nome
+    private static String encodeCursor(ProducerIntervalIndex.IntervalEntry entry) {
+        String position = entry.previousWin() + ":" + entry.followingWin() + ":" + entry.producerId() + ":"
+                + entry.followingMovieId() + ":" + entry.producer();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ProducerIntervalIndex.IntervalEntry decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(":", 5);
+            return new ProducerIntervalIndex.IntervalEntry(parts[4], Long.parseLong(parts[2]),
+                    Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new InvalidQueryException("Invalid cursor", e);
+        }
+    }
+}
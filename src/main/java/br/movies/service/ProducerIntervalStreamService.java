@@ -0,0 +1,101 @@
+package br.movies.service;
+
+import br.movies.config.IntervalProperties;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Entrega os intervalos mínimos e máximos um a um, sempre da mesma fonte de
+ * /producers/awards-intervals. Na estratégia {@code index} os dois grupos extremos são lidos em blocos
+ * de {@value #CHUNK_SIZE} entradas, com o lock de leitura mantido só enquanto um bloco é copiado: a
+ * memória por requisição não cresce com o número de empates e um cliente lento não bloqueia as
+ * atualizações. O primeiro bloco de cada grupo sai da mesma versão do índice; se o índice mudar antes
+ * que os blocos seguintes sejam lidos, a escrita é abortada com {@link java.util.ConcurrentModificationException}
+ * em vez de misturar versões. Nas demais estratégias o resultado completo é calculado por
+ * {@link ProducerAwardIntervalService} e escrito item a item, com memória proporcional ao resultado.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProducerIntervalStreamService {
+
+    static final int CHUNK_SIZE = 256;
+
+    private final ProducerIntervalIndex producerIntervalIndex;
+    private final ProducerAwardIntervalService producerAwardIntervalService;
+    private final IntervalProperties intervalProperties;
+
+    @FunctionalInterface
+    public interface IntervalWriter {
+        void write(ProducerInterval interval) throws IOException;
+    }
+
+    /**
+     * Mínimos e máximos de uma mesma versão dos dados, lidos uma vez por requisição.
+     */
+    public interface IntervalSnapshot {
+
+        void forEachShortest(IntervalWriter writer) throws IOException;
+
+        void forEachLongest(IntervalWriter writer) throws IOException;
+    }
+
+    public IntervalSnapshot snapshot() {
+        if (intervalProperties.getStrategy() != IntervalProperties.Strategy.INDEX) {
+            ProducerIntervalResponse response = producerAwardIntervalService.getProducerIntervals();
+            return new ResponseSnapshot(response.getMin(), response.getMax());
+        }
+        return new IndexSnapshot(producerIntervalIndex, producerIntervalIndex.extremes(CHUNK_SIZE));
+    }
+
+    private record ResponseSnapshot(List<ProducerInterval> shortest, List<ProducerInterval> longest)
+            implements IntervalSnapshot {
+
+        @Override
+        public void forEachShortest(IntervalWriter writer) throws IOException {
+            write(shortest, writer);
+        }
+
+        @Override
+        public void forEachLongest(IntervalWriter writer) throws IOException {
+            write(longest, writer);
+        }
+
+        private static void write(List<ProducerInterval> intervals, IntervalWriter writer) throws IOException {
+            for (ProducerInterval interval : intervals) {
+                writer.write(interval);
+            }
+        }
+    }
+
+    // Guarda só o primeiro bloco de cada grupo; os seguintes são lidos durante a escrita
+    private record IndexSnapshot(ProducerIntervalIndex index, ProducerIntervalIndex.ExtremeChunks first)
+            implements IntervalSnapshot {
+
+        @Override
+        public void forEachShortest(IntervalWriter writer) throws IOException {
+            write(first.shortest(), writer);
+        }
+
+        @Override
+        public void forEachLongest(IntervalWriter writer) throws IOException {
+            write(first.longest(), writer);
+        }
+
+        private void write(List<ProducerIntervalIndex.IntervalEntry> chunk, IntervalWriter writer) throws IOException {
+            while (true) {
+                for (ProducerIntervalIndex.IntervalEntry entry : chunk) {
+                    writer.write(entry.toDto());
+                }
+                if (chunk.size() < CHUNK_SIZE) {
+                    return;
+                }
+                chunk = index.extremeChunk(first.version(), chunk.get(chunk.size() - 1), CHUNK_SIZE);
+            }
+        }
+    }
+}
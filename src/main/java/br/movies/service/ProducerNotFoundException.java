@@ -0,0 +1,8 @@
+package br.movies.service;
+
+public class ProducerNotFoundException extends RuntimeException {
+
+    public ProducerNotFoundException(Long id) {
+        super("Producer " + id + " not found");
+    }
+}
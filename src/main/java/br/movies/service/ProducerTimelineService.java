@@ -0,0 +1,98 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerSummary;
+import br.movies.dto.ProducerTimeline;
+import br.movies.dto.ProducerWin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consultas por produtor sobre os índices da cópia colunar: id e prefixo do nome por busca binária,
+ * ranking por vitórias já ordenado e a linha do tempo lida do trecho de vitórias do produtor, sem
+ * percorrer os filmes nem consultar a base.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProducerTimelineService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final MovieColumnStore movieColumnStore;
+
+    public ProducerTimeline findTimeline(Long id) {
+        MovieColumns columns = movieColumnStore.current();
+        int producer = columns.producerCodeById(id);
+        if (producer < 0) {
+            throw new ProducerNotFoundException(id);
+        }
+
+        String name = columns.producerName(producer);
+        int start = columns.winStart(producer);
+        int end = columns.winEnd(producer);
+        List<ProducerWin> wins = new ArrayList<>(end - start);
+        List<ProducerInterval> intervals = new ArrayList<>(Math.max(0, end - start - 1));
+        for (int i = start; i < end; i++) {
+            int row = columns.winRow(i);
+            wins.add(new ProducerWin(columns.winYear(i), columns.id(row), columns.title(row)));
+            if (i > start) {
+                int previousWin = columns.winYear(i - 1);
+                int followingWin = columns.winYear(i);
+                intervals.add(new ProducerInterval(name, followingWin - previousWin, previousWin, followingWin));
+            }
+        }
+        return new ProducerTimeline(columns.producerId(producer), name, columns.producerMovieCount(producer),
+                wins, intervals);
+    }
+
+    public List<ProducerSummary> searchByPrefix(String prefix, int limit) {
+        checkLimit(limit);
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidQueryException("prefix is required");
+        }
+
+        MovieColumns columns = movieColumnStore.current();
+        int[] producers = columns.producersWithPrefix(prefix, limit);
+        List<ProducerSummary> result = new ArrayList<>(producers.length);
+        for (int producer : producers) {
+            result.add(toSummary(columns, producer));
+        }
+        return result;
+    }
+
+    // Só produtores com pelo menos uma vitória; o ranking já está ordenado na cópia colunar
+    public List<ProducerSummary> findTopWinners(int limit) {
+        checkLimit(limit);
+
+        MovieColumns columns = movieColumnStore.current();
+        List<ProducerSummary> result = new ArrayList<>(Math.min(limit, 64));
+        for (int rank = 0; rank < columns.producerCount() && result.size() < limit; rank++) {
+            int producer = columns.producerByWinRank(rank);
+            if (columns.winEnd(producer) == columns.winStart(producer)) {
+                break;
+            }
+            result.add(toSummary(columns, producer));
+        }
+        return result;
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidQueryException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private static ProducerSummary toSummary(MovieColumns columns, int producer) {
+        int start = columns.winStart(producer);
+        int end = columns.winEnd(producer);
+        return new ProducerSummary(columns.producerId(producer), columns.producerName(producer),
+                columns.producerMovieCount(producer), end - start,
+                end > start ? columns.winYear(start) : null,
+                end > start ? columns.winYear(end - 1) : null);
+    }
+}
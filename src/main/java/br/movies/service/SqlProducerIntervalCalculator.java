@@ -0,0 +1,50 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.ProducerIntervalRow;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calcula os intervalos inteiramente na base (window function LAG). A ordenação final é feita
+ * aqui com a mesma regra do cálculo na JVM, para não depender da collation do banco.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlProducerIntervalCalculator {
+
+    private final MovieRepository movieRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional(readOnly = true)
+    public ProducerIntervalResponse calculate() {
+        List<ProducerInterval> minIntervals = new ArrayList<>();
+        List<ProducerInterval> maxIntervals = new ArrayList<>();
+
+        long start = System.nanoTime();
+        List<ProducerIntervalRow> rows = movieRepository.findMinMaxProducerIntervals();
+        long fetched = System.nanoTime();
+        for (ProducerIntervalRow row : rows) {
+            ProducerInterval interval = new ProducerInterval(row.getProducer(), row.getGap().intValue(),
+                    row.getPreviousWin().intValue(), row.getFollowingWin().intValue());
+            if ("min".equals(row.getKind())) {
+                minIntervals.add(interval);
+            } else {
+                maxIntervals.add(interval);
+            }
+        }
+
+        minIntervals.sort(JvmProducerIntervalCalculator.RESPONSE_ORDER);
+        maxIntervals.sort(JvmProducerIntervalCalculator.RESPONSE_ORDER);
+        JvmProducerIntervalCalculator.recordStage(meterRegistry, "sql", "fetch", fetched - start);
+        JvmProducerIntervalCalculator.recordStage(meterRegistry, "sql", "compute", System.nanoTime() - fetched);
+        return new ProducerIntervalResponse(minIntervals, maxIntervals);
+    }
+}
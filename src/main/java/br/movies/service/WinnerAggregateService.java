@@ -0,0 +1,80 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.YearAggregateIndex;
+import br.movies.datasource.columnar.YearAggregates;
+import br.movies.dto.DecadeWinners;
+import br.movies.dto.WinnerRange;
+import br.movies.dto.YearWinners;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vencedores por ano, por década e produtores distintos numa faixa de anos, lidos dos
+ * {@link YearAggregates} mantidos junto com a cópia colunar: cada faixa custa uma busca binária nos
+ * anos, sem percorrer os filmes nem consultar a base. Anos ausentes da faixa valem sem limite.
+ */
+@Service
+@RequiredArgsConstructor
+public class WinnerAggregateService {
+
+    private final YearAggregateIndex yearAggregateIndex;
+
+    public List<YearWinners> winnersByYear(Integer fromYear, Integer toYear) {
+        int from = from(fromYear, toYear);
+        int to = to(toYear);
+        YearAggregates aggregates = yearAggregateIndex.current();
+        List<YearWinners> result = new ArrayList<>();
+        for (int i = 0; i < aggregates.yearCount(); i++) {
+            int year = aggregates.year(i);
+            if (year >= from && year <= to && aggregates.winnersAt(i) > 0) {
+                result.add(new YearWinners(year, aggregates.winnersAt(i), aggregates.producersAt(i)));
+            }
+        }
+        return result;
+    }
+
+    // Décadas fechadas (1980 = 1980..1989), recortadas pela faixa pedida
+    public List<DecadeWinners> winnersByDecade(Integer fromYear, Integer toYear) {
+        int from = from(fromYear, toYear);
+        int to = to(toYear);
+        YearAggregates aggregates = yearAggregateIndex.current();
+        List<DecadeWinners> result = new ArrayList<>();
+        int decade = Integer.MIN_VALUE;
+        for (int i = 0; i < aggregates.yearCount(); i++) {
+            int year = aggregates.year(i);
+            int yearDecade = Math.floorDiv(year, 10) * 10;
+            if (year < from || year > to || yearDecade == decade) {
+                continue;
+            }
+            decade = yearDecade;
+            int start = Math.max(decade, from);
+            int end = Math.min(decade + 9, to);
+            int winners = aggregates.winners(start, end);
+            if (winners > 0) {
+                result.add(new DecadeWinners(decade, winners, aggregates.distinctProducers(start, end)));
+            }
+        }
+        return result;
+    }
+
+    public WinnerRange winnersBetween(Integer fromYear, Integer toYear) {
+        int from = from(fromYear, toYear);
+        int to = to(toYear);
+        YearAggregates aggregates = yearAggregateIndex.current();
+        return new WinnerRange(fromYear, toYear, aggregates.winners(from, to), aggregates.distinctProducers(from, to));
+    }
+
+    private static int from(Integer fromYear, Integer toYear) {
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new InvalidQueryException("fromYear must not be after toYear");
+        }
+        return fromYear != null ? fromYear : Integer.MIN_VALUE;
+    }
+
+    private static int to(Integer toYear) {
+        return toYear != null ? toYear : Integer.MAX_VALUE;
+    }
+}
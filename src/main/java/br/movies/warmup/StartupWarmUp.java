@@ -0,0 +1,177 @@
+package br.movies.warmup;
+
+import br.movies.config.WarmUpProperties;
+import br.movies.controller.impl.MovieControllerImpl;
+import br.movies.datasource.ProducerStudioLookup;
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.entity.Studio;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.service.AwardAnalyticsService;
+import br.movies.service.MovieQuery;
+import br.movies.service.MovieQueryService;
+import br.movies.service.ProducerAwardIntervalService;
+import br.movies.service.ProducerTimelineService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aquecimento depois da carga: preenche o cache das respostas dos endpoints quentes, passa uma vez
+ * pelo Hibernate (consulta com {@link Movie#WITH_LINKS}, tabela de nomes e cache de segundo nível)
+ * e repete cálculo e serialização até o JIT compilar esses caminhos. Roda numa thread própria com a
+ * porta já aberta; o {@link WarmUpHealthIndicator} mantém o grupo readiness fora de serviço até o fim.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmUp {
+
+    private static final int HIBERNATE_SAMPLE = 50;
+    private static final String WARM_UP_NAME = "warm-up";
+
+    private final WarmUpProperties warmUpProperties;
+    private final MovieControllerImpl movieController;
+    private final ProducerAwardIntervalService producerAwardIntervalService;
+    private final AwardAnalyticsService awardAnalyticsService;
+    private final MovieQueryService movieQueryService;
+    private final ProducerTimelineService producerTimelineService;
+    private final MovieColumnStore movieColumnStore;
+    private final MovieRepository movieRepository;
+    private final ProducerStudioLookup producerStudioLookup;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public enum Phase {
+        PENDING, RUNNING, READY
+    }
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile int completedIterations;
+    // Tempo desde o início da JVM até a primeira resposta já aquecida poder ser servida
+    private volatile long timeToWarmMillis = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!warmUpProperties.isEnabled()) {
+            ready(0, 0);
+            return;
+        }
+        phase = Phase.RUNNING;
+        Thread.ofPlatform().name("startup-warm-up").daemon().start(this::run);
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    public long getTimeToWarmMillis() {
+        return timeToWarmMillis;
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        int iterations = 0;
+        try {
+            precompute();
+            warmHibernate();
+
+            // Imagem nativa já vem compilada: sem JIT, basta o cache e o Hibernate
+            int target = NativeDetector.inNativeImage() ? 0 : warmUpProperties.getIterations();
+            long deadline = start + warmUpProperties.getMaxDuration().toNanos();
+            long firstNanos = -1;
+            long lastNanos = -1;
+            while (iterations < target && System.nanoTime() < deadline) {
+                long iterationStart = System.nanoTime();
+                exerciseHotPaths();
+                lastNanos = System.nanoTime() - iterationStart;
+                if (firstNanos < 0) {
+                    firstNanos = lastNanos;
+                }
+                completedIterations = ++iterations;
+            }
+            log.info("Warm-up ran {} iterations of the hot paths, first {} us, last {} us",
+                    iterations, firstNanos / 1_000, lastNanos / 1_000);
+        } catch (RuntimeException e) {
+            // Aquecimento é só otimização: uma falha não deixa a aplicação fora do ar
+            log.warn("Warm-up failed after {} iterations, marking the application ready", iterations, e);
+        } finally {
+            ready(iterations, System.nanoTime() - start);
+        }
+    }
+
+    // Primeira requisição de cada endpoint em cache passa a ser um acerto
+    private void precompute() {
+        movieController.getProducerAwardIntervals();
+        movieController.getStudioAwardIntervals();
+    }
+
+    // Consulta das alterações, nomes dos produtores e estúdios e tabela de internação numa transação só de leitura
+    private void warmHibernate() {
+        MovieColumns columns = movieColumnStore.current();
+        List<Long> ids = new ArrayList<>();
+        for (int row = 0; row < Math.min(columns.size(), HIBERNATE_SAMPLE); row++) {
+            ids.add(columns.id(row));
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            for (Movie movie : movieRepository.findWithLinksByIdIn(ids)) {
+                movie.getProducers().forEach(Producer::getName);
+                movie.getStudios().forEach(Studio::getName);
+            }
+        });
+        // Qualquer nome carrega a tabela de ids e apelidos usada pela primeira gravação
+        producerStudioLookup.producerKey(WARM_UP_NAME);
+        producerStudioLookup.studioKey(WARM_UP_NAME);
+    }
+
+    // Cálculo e serialização chamados direto, sem cache nem controller: as métricas de intervalos,
+    // cache e serialização (movies.intervals.*, movies.cache.*, movies.serialization) ficam só com o tráfego real
+    private void exerciseHotPaths() {
+        try {
+            objectMapper.writeValueAsBytes(producerAwardIntervalService.calculate());
+            objectMapper.writeValueAsBytes(awardAnalyticsService.getStudioAwards());
+            objectMapper.writeValueAsBytes(movieQueryService.search(new MovieQuery(null, null, null, null, null), 100));
+            objectMapper.writeValueAsBytes(producerTimelineService.findTopWinners(10));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize warm-up response", e);
+        }
+    }
+
+    private void ready(int iterations, long nanos) {
+        timeToWarmMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        meterRegistry.timer("movies.warmup.duration").record(nanos, TimeUnit.NANOSECONDS);
+        TimeGauge.builder("movies.startup.time.to.warm", this, TimeUnit.MILLISECONDS, StartupWarmUp::getTimeToWarmMillis)
+                .description("JVM uptime when the warm-up finished and the application became ready")
+                .register(meterRegistry);
+        phase = Phase.READY;
+        log.info("Application warmed up and ready {} ms after JVM start ({} iterations in {} ms)",
+                timeToWarmMillis, iterations, nanos / 1_000_000);
+    }
+}
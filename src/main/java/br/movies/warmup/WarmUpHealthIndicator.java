@@ -0,0 +1,28 @@
+package br.movies.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Componente {@code warmUp} do health, incluído no grupo readiness: fora de serviço até o
+ * {@link StartupWarmUp} terminar, para que o balanceador só mande tráfego com tudo aquecido.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmUp startupWarmUp;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = startupWarmUp.getPhase() == StartupWarmUp.Phase.READY ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", startupWarmUp.getPhase())
+                .withDetail("iterations", startupWarmUp.getCompletedIterations());
+        if (startupWarmUp.getTimeToWarmMillis() >= 0) {
+            builder.withDetail("timeToWarmMs", startupWarmUp.getTimeToWarmMillis());
+        }
+        return builder.build();
+    }
+}
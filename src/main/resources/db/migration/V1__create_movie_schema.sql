@@ -0,0 +1,71 @@
+-- Mesmo schema gerado pelo Hibernate para as entidades (ddl-auto=validate no perfil persistent).
+-- As sequences avançam de 50 em 50, como o allocationSize dos @SequenceGenerator.
+
+create sequence movie_seq start with 1 increment by 50;
+create sequence producer_seq start with 1 increment by 50;
+create sequence studio_seq start with 1 increment by 50;
+create sequence name_alias_seq start with 1 increment by 50;
+
+create table movie (
+    id bigint not null,
+    title varchar(255),
+    winner boolean,
+    year_movie integer,
+    primary key (id)
+);
+
+create table producer (
+    id bigint not null,
+    name varchar(255),
+    name_key varchar(255),
+    primary key (id),
+    constraint uk_producer_name_key unique (name_key)
+);
+
+create table studio (
+    id bigint not null,
+    name varchar(255),
+    name_key varchar(255),
+    primary key (id),
+    constraint uk_studio_name_key unique (name_key)
+);
+
+create table movie_producers (
+    movie_id bigint not null,
+    producers_id bigint not null,
+    constraint fk_movie_producers_movie foreign key (movie_id) references movie (id),
+    constraint fk_movie_producers_producer foreign key (producers_id) references producer (id)
+);
+
+create table movie_studios (
+    movie_id bigint not null,
+    studios_id bigint not null,
+    constraint fk_movie_studios_movie foreign key (movie_id) references movie (id),
+    constraint fk_movie_studios_studio foreign key (studios_id) references studio (id)
+);
+
+create table name_alias (
+    id bigint not null,
+    alias_key varchar(255),
+    kind enum ('PRODUCER','STUDIO'),
+    name varchar(255),
+    primary key (id),
+    constraint uk_name_alias_kind_key unique (kind, alias_key)
+);
+
+create table data_load_state (
+    id integer not null,
+    loaded_at timestamp(6),
+    movies bigint,
+    source_hash varchar(255),
+    primary key (id)
+);
+
+-- Vencedores por ano: "where winner = true order by year_movie" lê só o índice e já traz o id
+create index ix_movie_winner_year on movie (winner, year_movie, id);
+
+-- Ligações nos dois sentidos: do filme vencedor para os produtores (intervalos) e do produtor para os filmes
+create index ix_movie_producers_movie on movie_producers (movie_id, producers_id);
+create index ix_movie_producers_producer on movie_producers (producers_id, movie_id);
+create index ix_movie_studios_movie on movie_studios (movie_id, studios_id);
+create index ix_movie_studios_studio on movie_studios (studios_id, movie_id);
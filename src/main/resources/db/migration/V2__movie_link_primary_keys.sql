@@ -0,0 +1,9 @@
+-- Estúdios e produtores do filme mapeados como Set: o Hibernate espera a chave primária
+-- (filme, ligação) nas tabelas de junção. A carga e a API já associavam cada nome uma vez só,
+-- então não há linhas repetidas.
+alter table movie_producers add constraint pk_movie_producers primary key (movie_id, producers_id);
+alter table movie_studios add constraint pk_movie_studios primary key (movie_id, studios_id);
+
+-- A chave primária já cobre o sentido filme -> ligação
+drop index ix_movie_producers_movie;
+drop index ix_movie_studios_movie;
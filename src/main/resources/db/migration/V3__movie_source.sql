@@ -0,0 +1,4 @@
+-- Origem de cada filme: a recarga incremental dos CSVs só altera e remove os filmes CSV.
+-- Linhas anteriores a esta versão não tinham a distinção e já eram tratadas como vindas dos arquivos.
+alter table movie add column source enum ('CSV','API') default 'CSV' not null;
+alter table movie alter column source drop default;
@@ -0,0 +1,52 @@
+package br.movies.config;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.projection.ProducerWinView;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.dto.StudioAwardsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsTest() {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersJacksonBindingsForCachedResponses() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProducerIntervalResponse.class.getMethod("getMin")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(StudioAwardsResponse.class.getMethod("getStudios")))
+                .accepts(hints);
+    }
+
+    @Test
+    void testRegistersEntitiesProjectionsAndListeners() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Movie.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MovieChangeTracker.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProducerWinView.class, TargetAware.class,
+                SpringProxy.class, DecoratingProxy.class))
+                .accepts(hints);
+    }
+
+    @Test
+    void testRegistersClasspathResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("Movielist.csv")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_movie_schema.sql")).accepts(hints);
+    }
+}
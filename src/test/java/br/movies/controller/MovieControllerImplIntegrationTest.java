@@ -6,8 +6,25 @@ import br.movies.datasource.entity.Studio;
 import br.movies.datasource.repository.MovieRepository;
 import br.movies.datasource.repository.ProducerRepository;
 import br.movies.datasource.repository.StudioRepository;
+import br.movies.dto.DecadeWinners;
+import br.movies.dto.MovieBulkResult;
+import br.movies.dto.MovieCount;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.MovieSummary;
 import br.movies.dto.ProducerInterval;
 import br.movies.dto.ProducerIntervalResponse;
+import br.movies.dto.ProducerSummary;
+import br.movies.dto.ProducerTimeline;
+import br.movies.dto.ProducerWin;
+import br.movies.dto.StudioAwardStats;
+import br.movies.dto.StudioAwardsResponse;
+import br.movies.dto.StudioInterval;
+import br.movies.dto.WinnerRange;
+import br.movies.dto.YearWinners;
+import br.movies.service.MovieWriteService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,18 +32,28 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.SQLException;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+// Testes desligam os exportadores de métricas; o scrape do /actuator/prometheus precisa deles
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class MovieControllerImplIntegrationTest {
@@ -46,6 +73,9 @@ class MovieControllerImplIntegrationTest {
     @Autowired
     private StudioRepository studioRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeAll
     void globalSetup() {
         clearAllData();
@@ -357,6 +387,404 @@ class MovieControllerImplIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("Should return 304 when If-None-Match matches the ETag")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        Studio studio = studioRepository.save(Studio.builder().name("Test Studio").build());
+        Producer producer1 = producerRepository.save(Producer.builder().name("Producer One").build());
+
+        createWinningMovie("Movie 1", 1980, producer1, studio);
+        createWinningMovie("Movie 2", 1985, producer1, studio);
+
+        String url = "http://localhost:" + port + "/ws-movies/producers/awards-intervals";
+        ResponseEntity<String> first = restTemplate.getForEntity(url, String.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotBlank();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should recompute cached response after movies change")
+    void shouldRecomputeCachedResponseAfterMoviesChange() {
+        Studio studio = studioRepository.save(Studio.builder().name("Test Studio").build());
+        Producer producer1 = producerRepository.save(Producer.builder().name("Producer One").build());
+
+        createWinningMovie("Movie 1", 1980, producer1, studio);
+        createWinningMovie("Movie 2", 1985, producer1, studio);
+
+        String url = "http://localhost:" + port + "/ws-movies/producers/awards-intervals";
+        ResponseEntity<ProducerIntervalResponse> first = restTemplate.getForEntity(url, ProducerIntervalResponse.class);
+        assertThat(first.getBody().getMax().get(0).getInterval()).isEqualTo(5);
+
+        // Novo filme vencedor precisa aparecer mesmo com a resposta anterior em cache
+        createWinningMovie("Movie 3", 1995, producer1, studio);
+
+        ResponseEntity<ProducerIntervalResponse> second = restTemplate.getForEntity(url, ProducerIntervalResponse.class);
+        assertThat(second.getBody().getMax().get(0).getInterval()).isEqualTo(10);
+        assertThat(second.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should stream the same intervals as JSON and NDJSON")
+    void shouldStreamIntervalsAsJsonAndNdjson() {
+        Studio studio = studioRepository.save(Studio.builder().name("Test Studio").build());
+        Producer producer1 = producerRepository.save(Producer.builder().name("Producer One").build());
+        Producer producer2 = producerRepository.save(Producer.builder().name("Producer Two").build());
+
+        createWinningMovie("Movie 1", 1980, producer1, studio);
+        createWinningMovie("Movie 2", 1990, producer1, studio);
+        createWinningMovie("Movie 3", 1982, producer2, studio);
+        createWinningMovie("Movie 4", 1984, producer2, studio);
+
+        String url = "http://localhost:" + port + "/ws-movies/producers/awards-intervals";
+        ProducerIntervalResponse expected = restTemplate.getForEntity(url, ProducerIntervalResponse.class).getBody();
+
+        ResponseEntity<ProducerIntervalResponse> json = restTemplate.getForEntity(url + "/stream", ProducerIntervalResponse.class);
+        assertThat(json.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(json.getBody()).isEqualTo(expected);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> ndjson = restTemplate.exchange(url + "/stream", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(ndjson.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ndjson.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        assertThat(ndjson.getBody().split("\n")).containsExactly(
+                "{\"kind\":\"min\",\"producer\":\"Producer Two\",\"interval\":2,\"previousWin\":1982,\"followingWin\":1984}",
+                "{\"kind\":\"max\",\"producer\":\"Producer One\",\"interval\":10,\"previousWin\":1980,\"followingWin\":1990}");
+    }
+
+    @Test
+    @DisplayName("Should keep intervals consistent through create, update and delete")
+    void shouldKeepIntervalsConsistentThroughWrites() {
+        String moviesUrl = "http://localhost:" + port + "/ws-movies/movies";
+        String intervalsUrl = "http://localhost:" + port + "/ws-movies/producers/awards-intervals";
+
+        ResponseEntity<MovieSummary> first = restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1980, "Movie 1", true, List.of("Studio"), List.of("Producer One")), MovieSummary.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().getLocation()).hasToString(moviesUrl + "/" + first.getBody().getId());
+
+        MovieSummary second = restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1990, "Movie 2", true, List.of("Studio"), List.of("Producer One", "Producer Two")),
+                MovieSummary.class).getBody();
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1993, "Movie 3", true, List.of("Studio"), List.of("Producer Two")), MovieSummary.class);
+
+        ProducerIntervalResponse created = restTemplate.getForEntity(intervalsUrl, ProducerIntervalResponse.class).getBody();
+        assertThat(created.getMin()).extracting(ProducerInterval::getProducer, ProducerInterval::getInterval)
+                .containsExactly(tuple("Producer Two", 3));
+        assertThat(created.getMax()).extracting(ProducerInterval::getProducer, ProducerInterval::getInterval)
+                .containsExactly(tuple("Producer One", 10));
+
+        // Producer One sai do segundo filme: só Producer Two continua com duas vitórias
+        restTemplate.put(moviesUrl + "/" + second.getId(),
+                new MovieRequest(1990, "Movie 2", true, List.of("Studio"), List.of("Producer Two")));
+        ProducerIntervalResponse updated = restTemplate.getForEntity(intervalsUrl, ProducerIntervalResponse.class).getBody();
+        assertThat(updated.getMin()).extracting(ProducerInterval::getProducer).containsExactly("Producer Two");
+        assertThat(updated.getMax()).extracting(ProducerInterval::getProducer).containsExactly("Producer Two");
+        assertThat(restTemplate.getForEntity(moviesUrl + "/" + second.getId(), MovieSummary.class).getBody().getProducers())
+                .containsExactly("Producer Two");
+
+        ResponseEntity<Void> deleted = restTemplate.exchange(moviesUrl + "/" + second.getId(), HttpMethod.DELETE, null, Void.class);
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        ProducerIntervalResponse afterDelete = restTemplate.getForEntity(intervalsUrl, ProducerIntervalResponse.class).getBody();
+        assertThat(afterDelete.getMin()).isEmpty();
+        assertThat(afterDelete.getMax()).isEmpty();
+
+        assertThat(restTemplate.getForEntity(moviesUrl + "/" + second.getId(), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(restTemplate.exchange(moviesUrl + "/" + second.getId(), HttpMethod.DELETE, null, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        // Produtores e estúdios são reaproveitados pelo nome
+        assertThat(producerRepository.count()).isEqualTo(2);
+        assertThat(studioRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resolve name variants to the existing producer")
+    void shouldResolveNameVariantsToExistingProducer() {
+        String url = "http://localhost:" + port + "/ws-movies/movies";
+        restTemplate.postForEntity(url,
+                new MovieRequest(1980, "Movie 1", true, List.of("Studio"), List.of("Producer One")), MovieSummary.class);
+
+        MovieSummary variant = restTemplate.postForEntity(url,
+                new MovieRequest(1985, "Movie 2", true, List.of("STUDIO"), List.of(" producer  ONE", "Producer one")),
+                MovieSummary.class).getBody();
+
+        assertThat(variant.getProducers()).containsExactly("Producer One");
+        assertThat(variant.getStudios()).containsExactly("Studio");
+        assertThat(producerRepository.count()).isEqualTo(1);
+        assertThat(studioRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create movies in bulk in a single transaction")
+    void shouldCreateMoviesInBulk() {
+        Producer existing = producerRepository.save(Producer.builder().name("Producer 0").build());
+
+        List<MovieRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            requests.add(new MovieRequest(1900 + i % 100, "Movie " + i, i % 2 == 0,
+                    List.of("Studio " + i % 3), List.of("Producer " + i % 10)));
+        }
+
+        String url = "http://localhost:" + port + "/ws-movies/movies/bulk";
+        ResponseEntity<MovieBulkResult> response = restTemplate.postForEntity(url, requests, MovieBulkResult.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().getCreated()).isEqualTo(1200);
+        assertThat(response.getBody().getIds()).hasSize(1200).doesNotHaveDuplicates();
+        assertThat(movieRepository.count()).isEqualTo(1200);
+        assertThat(producerRepository.count()).isEqualTo(10);
+        assertThat(producerRepository.findByName("Producer 0")).map(Producer::getId).contains(existing.getId());
+        assertThat(studioRepository.count()).isEqualTo(3);
+
+        String countUrl = "http://localhost:" + port + "/ws-movies/movies/count?producer=Producer 0";
+        assertThat(restTemplate.getForEntity(countUrl, MovieCount.class).getBody().getCount()).isEqualTo(120);
+
+        // Um item inválido rejeita o lote inteiro
+        requests.set(5, new MovieRequest(null, "No year", false, List.of(), List.of()));
+        ResponseEntity<String> invalid = restTemplate.postForEntity(url, requests, String.class);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(invalid.getBody()).contains("movie 5");
+        assertThat(movieRepository.count()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("Should reject names longer than the columns and map only name key conflicts to 409")
+    void testOversizedNamesAndConstraintViolations() {
+        String url = "http://localhost:" + port + "/ws-movies/movies";
+        String tooLong = "x".repeat(MovieWriteService.MAX_NAME_LENGTH + 1);
+
+        ResponseEntity<String> title = restTemplate.postForEntity(url,
+                new MovieRequest(1980, tooLong, true, List.of("Studio"), List.of("Producer")), String.class);
+        assertThat(title.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(title.getBody()).contains("title must have at most 255 characters");
+
+        ResponseEntity<String> producer = restTemplate.postForEntity(url,
+                new MovieRequest(1980, "Movie", true, List.of("Studio"), List.of(tooLong)), String.class);
+        assertThat(producer.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(producer.getBody()).contains("producer name must have at most 255 characters");
+        assertThat(movieRepository.count()).isZero();
+
+        // Só a disputa pelo índice único de nomes pode ser repetida; as demais violações seguem como 500
+        assertThat(ApiExceptionHandler.isNameKeyConflict(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_PRODUCER_NAME_KEY_INDEX_8"))))
+                .isTrue();
+        assertThat(ApiExceptionHandler.isNameKeyConflict(new DataIntegrityViolationException("foreign key",
+                new ConstraintViolationException("foreign key", new SQLException(), "PUBLIC.FK_MOVIE_PRODUCERS_MOVIE"))))
+                .isFalse();
+        assertThat(ApiExceptionHandler.isNameKeyConflict(new DataIntegrityViolationException("value too long")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should serve producer timeline, prefix search and most awarded producers")
+    void shouldServeProducerTimelineSearchAndTop() {
+        String baseUrl = "http://localhost:" + port + "/ws-movies";
+        String moviesUrl = baseUrl + "/movies";
+        MovieSummary first = restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1990, "Movie 1", true, List.of("Studio"), List.of("Joel Silver")), MovieSummary.class).getBody();
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1980, "Movie 2", true, List.of("Studio"), List.of("Joel Silver", "Jon Peters")), MovieSummary.class);
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1995, "Movie 3", false, List.of("Studio"), List.of("Joel Silver")), MovieSummary.class);
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1999, "Movie 4", true, List.of("Studio"), List.of("Joel Silver")), MovieSummary.class);
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1985, "Movie 5", false, List.of("Studio"), List.of("Allan Carr")), MovieSummary.class);
+
+        Long joelId = producerRepository.findByName("Joel Silver").orElseThrow().getId();
+        ProducerTimeline timeline = restTemplate.getForEntity(baseUrl + "/producers/" + joelId, ProducerTimeline.class).getBody();
+        assertThat(timeline.getName()).isEqualTo("Joel Silver");
+        assertThat(timeline.getMovies()).isEqualTo(4);
+        assertThat(timeline.getWins()).extracting(ProducerWin::getYear, ProducerWin::getTitle)
+                .containsExactly(tuple(1980, "Movie 2"), tuple(1990, "Movie 1"), tuple(1999, "Movie 4"));
+        assertThat(timeline.getWins().get(1).getMovieId()).isEqualTo(first.getId());
+        assertThat(timeline.getIntervals()).extracting(ProducerInterval::getInterval, ProducerInterval::getPreviousWin)
+                .containsExactly(tuple(10, 1980), tuple(9, 1990));
+
+        ProducerSummary[] found = restTemplate.getForEntity(baseUrl + "/producers/search?prefix= JO", ProducerSummary[].class).getBody();
+        assertThat(found).extracting(ProducerSummary::getName, ProducerSummary::getWins)
+                .containsExactly(tuple("Joel Silver", 3), tuple("Jon Peters", 1));
+        assertThat(restTemplate.getForEntity(baseUrl + "/producers/search?prefix=jon", ProducerSummary[].class).getBody())
+                .extracting(ProducerSummary::getName).containsExactly("Jon Peters");
+
+        // Allan Carr não venceu e fica fora do ranking
+        ProducerSummary[] top = restTemplate.getForEntity(baseUrl + "/producers/top?limit=5", ProducerSummary[].class).getBody();
+        assertThat(top).extracting(ProducerSummary::getName, ProducerSummary::getWins,
+                        ProducerSummary::getFirstWin, ProducerSummary::getLastWin)
+                .containsExactly(tuple("Joel Silver", 3, 1980, 1999), tuple("Jon Peters", 1, 1980, 1980));
+
+        // A alteração chega aos índices por produtor depois do commit
+        restTemplate.delete(moviesUrl + "/" + first.getId());
+        assertThat(restTemplate.getForEntity(baseUrl + "/producers/" + joelId, ProducerTimeline.class).getBody().getWins())
+                .extracting(ProducerWin::getYear).containsExactly(1980, 1999);
+
+        assertThat(restTemplate.getForEntity(baseUrl + "/producers/" + (joelId + 1000), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(restTemplate.getForEntity(baseUrl + "/producers/search?prefix=", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should return studio intervals, win counts and streaks")
+    void shouldReturnStudioAwardIntervals() {
+        String baseUrl = "http://localhost:" + port + "/ws-movies";
+        String moviesUrl = baseUrl + "/movies";
+        for (int year : new int[]{1980, 1981, 1982, 1990}) {
+            restTemplate.postForEntity(moviesUrl,
+                    new MovieRequest(year, "Movie " + year, true, List.of("Studio A"), List.of("Producer One")), MovieSummary.class);
+        }
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1985, "Movie 1985", true, List.of("Studio B", "Studio A"), List.of("Producer Two")), MovieSummary.class);
+        restTemplate.postForEntity(moviesUrl,
+                new MovieRequest(1986, "Movie 1986", false, List.of("Studio B"), List.of("Producer Two")), MovieSummary.class);
+
+        StudioAwardsResponse response = restTemplate.getForEntity(baseUrl + "/studios/awards-intervals",
+                StudioAwardsResponse.class).getBody();
+
+        assertThat(response.getMin()).extracting(StudioInterval::getStudio, StudioInterval::getInterval)
+                .containsExactly(tuple("Studio A", 1), tuple("Studio A", 1));
+        assertThat(response.getMax()).extracting(StudioInterval::getStudio, StudioInterval::getPreviousWin, StudioInterval::getFollowingWin)
+                .containsExactly(tuple("Studio A", 1985, 1990));
+        assertThat(response.getStudios()).extracting(StudioAwardStats::getStudio, StudioAwardStats::getWins,
+                        StudioAwardStats::getLongestStreak, StudioAwardStats::getStreakStart, StudioAwardStats::getStreakEnd)
+                .containsExactly(tuple("Studio A", 5, 3, 1980, 1982), tuple("Studio B", 1, 1, 1985, 1985));
+
+        // O estúdio perde a vitória de 1981 e a resposta em cache é recalculada
+        Long movieId = restTemplate.getForEntity(moviesUrl + "?fromYear=1981&toYear=1981", MovieSummary[].class).getBody()[0].getId();
+        restTemplate.delete(moviesUrl + "/" + movieId);
+        StudioAwardsResponse updated = restTemplate.getForEntity(baseUrl + "/studios/awards-intervals",
+                StudioAwardsResponse.class).getBody();
+        assertThat(updated.getStudios().get(0).getLongestStreak()).isEqualTo(1);
+        assertThat(updated.getMin()).extracting(StudioInterval::getPreviousWin).containsExactly(1980);
+    }
+
+    @Test
+    @DisplayName("Should aggregate winners per year, per decade and distinct producers in a year range")
+    void shouldAggregateWinnersByYearRange() {
+        String baseUrl = "http://localhost:" + port + "/ws-movies";
+        restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1981, "Movie 1", true, List.of("Studio"), List.of("Producer One")), MovieSummary.class);
+        restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1985, "Movie 2", true, List.of("Studio"), List.of("Producer One", "Producer Two")), MovieSummary.class);
+        MovieSummary third = restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1992, "Movie 3", true, List.of("Studio"), List.of("Producer Three")), MovieSummary.class).getBody();
+        restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1995, "Movie 4", false, List.of("Studio"), List.of("Producer Four")), MovieSummary.class);
+
+        YearWinners[] byYear = restTemplate.getForEntity(baseUrl + "/winners/by-year", YearWinners[].class).getBody();
+        assertThat(byYear).extracting(YearWinners::getYear, YearWinners::getWinners, YearWinners::getProducers)
+                .containsExactly(tuple(1981, 1, 1), tuple(1985, 1, 2), tuple(1992, 1, 1));
+
+        DecadeWinners[] byDecade = restTemplate.getForEntity(baseUrl + "/winners/by-decade?fromYear=1982",
+                DecadeWinners[].class).getBody();
+        assertThat(byDecade).extracting(DecadeWinners::getDecade, DecadeWinners::getWinners, DecadeWinners::getProducers)
+                .containsExactly(tuple(1980, 1, 2), tuple(1990, 1, 1));
+
+        WinnerRange range = restTemplate.getForEntity(baseUrl + "/winners/range?fromYear=1982&toYear=1995",
+                WinnerRange.class).getBody();
+        assertThat(range.getWinners()).isEqualTo(2);
+        assertThat(range.getProducers()).isEqualTo(3);
+
+        // A alteração chega aos agregados só pelo filme afetado
+        restTemplate.put(baseUrl + "/movies/" + third.getId(),
+                new MovieRequest(1992, "Movie 3", false, List.of("Studio"), List.of("Producer Three")));
+        WinnerRange updated = restTemplate.getForEntity(baseUrl + "/winners/range?fromYear=1982&toYear=1995",
+                WinnerRange.class).getBody();
+        assertThat(updated.getWinners()).isEqualTo(1);
+        assertThat(updated.getProducers()).isEqualTo(2);
+        assertThat(restTemplate.getForEntity(baseUrl + "/winners/range?fromYear=1990&toYear=1980", String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should expose load, interval and per-request query metrics")
+    void shouldExposeHotPathMetrics() {
+        Studio studio = studioRepository.save(Studio.builder().name("Test Studio").build());
+        Producer producer = producerRepository.save(Producer.builder().name("Producer One").build());
+        createWinningMovie("Movie 1", 1980, producer, studio);
+        createWinningMovie("Movie 2", 1990, producer, studio);
+
+        String baseUrl = "http://localhost:" + port + "/ws-movies";
+        restTemplate.getForEntity(baseUrl + "/producers/awards-intervals", String.class);
+        restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1995, "Movie 3", true, List.of("Test Studio"), List.of("Producer One")), String.class);
+
+        // O índice responde sem consultar a base; a inclusão precisa de pelo menos um INSERT
+        DistributionSummary intervalQueries = meterRegistry.find("movies.http.queries")
+                .tags("method", "GET", "uri", "/producers/awards-intervals").summary();
+        assertThat(intervalQueries).isNotNull();
+        assertThat(intervalQueries.max()).isZero();
+        DistributionSummary createQueries = meterRegistry.find("movies.http.queries")
+                .tags("method", "POST", "uri", "/movies").summary();
+        assertThat(createQueries).isNotNull();
+        assertThat(createQueries.max()).isPositive();
+
+        String scrape = restTemplate.getForEntity(baseUrl + "/actuator/prometheus", String.class).getBody();
+        assertThat(scrape)
+                .contains("movies_loader_phase_seconds")
+                .contains("phase=\"parse\"")
+                .contains("movies_intervals_calculate_seconds")
+                .contains("movies_intervals_result_size")
+                .contains("movies_serialization_seconds")
+                .contains("movies_http_queries");
+    }
+
+    @Test
+    @DisplayName("Should serve reads without SQL and keep write query counts independent of collection sizes")
+    void shouldKeepQueryCountsPerEndpointFlat() {
+        String baseUrl = "http://localhost:" + port + "/ws-movies";
+        List<String> manyProducers = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            manyProducers.add("Producer " + i);
+        }
+        MovieSummary single = restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1980, "Single", true, List.of("Studio"), List.of("Producer 1")), MovieSummary.class).getBody();
+        MovieSummary many = restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(1990, "Many", true, List.of("Studio"), manyProducers), MovieSummary.class).getBody();
+        Long producerId = producerRepository.findAll().get(0).getId();
+
+        // Leituras servidas pelo índice e pela cópia colunar: nenhuma consulta
+        assertThat(queries("GET", "/producers/awards-intervals", () -> restTemplate.getForEntity(baseUrl + "/producers/awards-intervals", String.class))).isZero();
+        assertThat(queries("GET", "/studios/awards-intervals", () -> restTemplate.getForEntity(baseUrl + "/studios/awards-intervals", String.class))).isZero();
+        assertThat(queries("GET", "/movies", () -> restTemplate.getForEntity(baseUrl + "/movies?producer=Producer 7", String.class))).isZero();
+        assertThat(queries("GET", "/movies/{id}", () -> restTemplate.getForEntity(baseUrl + "/movies/" + many.getId(), String.class))).isZero();
+        assertThat(queries("GET", "/producers/{id}", () -> restTemplate.getForEntity(baseUrl + "/producers/" + producerId, String.class))).isZero();
+        assertThat(queries("GET", "/winners/range", () -> restTemplate.getForEntity(baseUrl + "/winners/range?fromYear=1980&toYear=1990", String.class))).isZero();
+
+        // Alteração: filme e ligações numa consulta só, nomes vindos do cache de segundo nível
+        long updateSingle = queries("PUT", "/movies/{id}", () -> restTemplate.put(baseUrl + "/movies/" + single.getId(),
+                new MovieRequest(1980, "Single 2", true, List.of("Studio"), List.of("Producer 1"))));
+        long updateMany = queries("PUT", "/movies/{id}", () -> restTemplate.put(baseUrl + "/movies/" + many.getId(),
+                new MovieRequest(1990, "Many 2", true, List.of("Studio"), manyProducers)));
+        assertThat(updateMany).isEqualTo(updateSingle);
+
+        long createSingle = queries("POST", "/movies", () -> restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(2000, "Single 3", false, List.of("Studio"), List.of("Producer 1")), String.class));
+        long createMany = queries("POST", "/movies", () -> restTemplate.postForEntity(baseUrl + "/movies",
+                new MovieRequest(2001, "Many 3", false, List.of("Studio"), manyProducers), String.class));
+        // Sem o cache os 20 nomes viriam em 20 SELECTs; a tolerância é um novo bloco de ids da sequence
+        assertThat(createMany).isLessThanOrEqualTo(createSingle + 1);
+
+        // Carga em lote: INSERTs em batch, o custo cresce com os lotes e os blocos da sequence, não com os filmes
+        long smallBulk = queries("POST", "/movies/bulk", () -> restTemplate.postForEntity(baseUrl + "/movies/bulk",
+                bulk(2100, 10, manyProducers), String.class));
+        long largeBulk = queries("POST", "/movies/bulk", () -> restTemplate.postForEntity(baseUrl + "/movies/bulk",
+                bulk(2200, 200, manyProducers), String.class));
+        assertThat(largeBulk).isLessThanOrEqualTo(smallBulk + 5);
+    }
+
     // Métodos úteis
     private void createWinningMovie(String title, Integer year, Producer producer, Studio studio) {
         Set<Producer> producers = new HashSet<>();
@@ -369,8 +797,8 @@ class MovieControllerImplIntegrationTest {
                 .title(title)
                 .yearMovie(year)
                 .winner(true)
-                .producers(new ArrayList<>(producers))
-                .studios(new ArrayList<>(studios))
+                .producers(new LinkedHashSet<>(producers))
+                .studios(new LinkedHashSet<>(studios))
                 .build();
 
         movieRepository.save(movie);
@@ -387,8 +815,8 @@ class MovieControllerImplIntegrationTest {
                 .title(title)
                 .yearMovie(year)
                 .winner(false)
-                .producers(new ArrayList<>(producers))
-                .studios(new ArrayList<>(studios))
+                .producers(new LinkedHashSet<>(producers))
+                .studios(new LinkedHashSet<>(studios))
                 .build();
 
         movieRepository.save(movie);
@@ -403,10 +831,37 @@ class MovieControllerImplIntegrationTest {
                 .title(title)
                 .yearMovie(year)
                 .winner(true)
-                .producers(new ArrayList<>(producerSet))
-                .studios(new ArrayList<>(studios))
+                .producers(new LinkedHashSet<>(producerSet))
+                .studios(new LinkedHashSet<>(studios))
                 .build();
 
         movieRepository.save(movie);
     }
-}
\ No newline at end of file
+
+    private static List<MovieRequest> bulk(int firstYear, int size, List<String> producers) {
+        List<MovieRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(new MovieRequest(firstYear + i, "Bulk " + (firstYear + i), i % 2 == 0, List.of("Studio"), producers));
+        }
+        return requests;
+    }
+
+    // Consultas feitas por uma requisição; o interceptor registra depois de a resposta ser escrita
+    private long queries(String method, String uri, Runnable request) {
+        DistributionSummary before = meterRegistry.find("movies.http.queries").tags("method", method, "uri", uri).summary();
+        long count = before != null ? before.count() : 0;
+        double total = before != null ? before.totalAmount() : 0;
+        request.run();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (true) {
+            DistributionSummary after = meterRegistry.find("movies.http.queries").tags("method", method, "uri", uri).summary();
+            if (after != null && after.count() > count) {
+                assertThat(after.count()).isEqualTo(count + 1);
+                return Math.round(after.totalAmount() - total);
+            }
+            assertThat(System.nanoTime()).as("query count for %s %s", method, uri).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -35,12 +35,11 @@ public class DataLoaderTest {
     @Autowired
     private ProducerRepository producerRepository;
 
+    @Autowired
     private DataLoader dataLoader;
 
     @BeforeEach
     void setUp() {
-        dataLoader = new DataLoader(movieRepository, studioRepository, producerRepository);
-
         movieRepository.deleteAll();
         studioRepository.deleteAll();
         producerRepository.deleteAll();
@@ -0,0 +1,211 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.datasource.repository.ProducerRepository;
+import br.movies.datasource.repository.StudioRepository;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.MovieSummary;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.service.MovieWriteService;
+import br.movies.service.ProducerIntervalIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MovieDeltaLoaderTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @Autowired
+    private MovieDeltaLoader movieDeltaLoader;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private ProducerIntervalIndex producerIntervalIndex;
+
+    @Autowired
+    private MovieChangeTracker movieChangeTracker;
+
+    @Autowired
+    private MovieWriteService movieWriteService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        clearTables();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTables();
+    }
+
+    @Test
+    void testOnlyChangedRowsAreApplied() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER
+                + "1980;Movie A;Studio;Producer One;yes\n"
+                + "1985;Movie B;Studio;Producer One;yes\n"
+                + "1990;Movie C;Studio;Producer Two;\n");
+
+        MovieDeltaLoader.DeltaResult first = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+        assertThat(first.inserted()).isEqualTo(3);
+        Long unchangedId = idOf("Movie A");
+
+        // B deixa de vencer, C passa a vencer com outro produtor, D entra e A continua igual
+        write(csv, HEADER
+                + "1980;Movie A;Studio;Producer One;yes\n"
+                + "1990;Movie C;Studio;Producer One;yes\n"
+                + "2000;Movie D;Other Studio;Producer One;yes\n");
+
+        MovieDeltaLoader.DeltaResult second = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(second.inserted()).isEqualTo(1);
+        assertThat(second.updated()).isEqualTo(1);
+        assertThat(second.deleted()).isEqualTo(1);
+        assertThat(second.unchanged()).isEqualTo(1);
+        assertThat(movieRepository.count()).isEqualTo(3);
+        assertThat(idOf("Movie A")).isEqualTo(unchangedId);
+
+        // O índice recebeu as alterações: vitórias de Producer One em 1980, 1990 e 2000
+        ProducerIntervalResponse intervals = producerIntervalIndex.getProducerIntervals();
+        assertThat(intervals.getMin())
+                .extracting(ProducerInterval::getProducer, ProducerInterval::getPreviousWin, ProducerInterval::getFollowingWin)
+                .containsExactly(tuple("Producer One", 1980, 1990), tuple("Producer One", 1990, 2000));
+    }
+
+    @Test
+    void testLinkOnlyChangesReachTheIndex() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER
+                + "1980;Movie A;Studio;Producer One;yes\n"
+                + "1990;Movie B;Studio;Producer One;yes\n");
+        movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        // Só o produtor de B muda: a linha do filme fica igual e nenhum UPDATE sai para ela
+        write(csv, HEADER
+                + "1980;Movie A;Studio;Producer One;yes\n"
+                + "1990;Movie B;Studio;Producer Two;yes\n");
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(producerIntervalIndex.getProducerIntervals().getMin()).isEmpty();
+    }
+
+    @Test
+    void testUnchangedSourceIsNoOp() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One and Producer Two;yes\n");
+        movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(result.changed()).isFalse();
+        assertThat(result.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void testLinkOrderIsNotAChange() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER + "1980;Movie A;Studio A, Studio B;Producer One and Producer Two;yes\n");
+        movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        write(csv, HEADER + "1980;Movie A;Studio B, Studio A;Producer Two and Producer One;yes\n");
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(result.changed()).isFalse();
+        assertThat(result.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidLinesDoNotDeleteMovies() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n1985;Movie B;Studio;Producer One;yes\n");
+        movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\nnot-a-year;Movie B;Studio;Producer One;yes\n");
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.deleted()).isZero();
+        assertThat(movieRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testMoviesCreatedThroughTheApiSurviveSourceChanges() throws IOException {
+        Path csv = directory.resolve("movies.csv");
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n");
+        movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        // Dois filmes da API com o mesmo ano e título, um deles igual a uma linha do CSV
+        MovieRequest request = new MovieRequest(1990, "Api Movie", true, List.of("Studio"), List.of("Producer One"));
+        MovieSummary first = movieWriteService.create(request);
+        MovieSummary second = movieWriteService.create(request);
+        MovieSummary sameAsCsv = movieWriteService.create(
+                new MovieRequest(1980, "Movie A", false, List.of("Studio"), List.of("Producer Two")));
+
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n1985;Movie B;Studio;Producer One;yes\n");
+        MovieDeltaLoader.DeltaResult result = movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv)));
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isZero();
+        assertThat(result.deleted()).isZero();
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(movieRepository.findAllById(List.of(first.getId(), second.getId(), sameAsCsv.getId())))
+                .hasSize(3)
+                .allMatch(movie -> movie.getSource() == Movie.Source.API);
+        assertThat(movieRepository.findById(sameAsCsv.getId()).orElseThrow().getWinner()).isFalse();
+
+        // Arquivo esvaziado: só os filmes do CSV saem
+        write(csv, HEADER);
+        assertThat(movieDeltaLoader.reload(List.of(CsvShard.ofPath(csv))).deleted()).isEqualTo(2);
+        assertThat(movieRepository.findAll()).extracting(Movie::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId(), sameAsCsv.getId());
+    }
+
+    private Long idOf(String title) {
+        return movieRepository.findAll().stream()
+                .filter(movie -> movie.getTitle().equals(title))
+                .map(Movie::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void write(Path csv, String content) throws IOException {
+        Files.writeString(csv, content);
+    }
+
+    private void clearTables() {
+        movieRepository.deleteAll();
+        producerRepository.deleteAll();
+        studioRepository.deleteAll();
+        movieChangeTracker.reloaded();
+    }
+}
@@ -0,0 +1,117 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.datasource.repository.ProducerRepository;
+import br.movies.datasource.repository.StudioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MovieIngestPipelineTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @Autowired
+    private MovieIngestPipeline movieIngestPipeline;
+
+    @Autowired
+    private NameAliasLoader nameAliasLoader;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository.deleteAll();
+        studioRepository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    @Test
+    void testLoadsShardsInOrderAndDeduplicatesNames() throws Exception {
+        Path first = write("a.csv", HEADER
+                + "1980;Movie 1;Studio A;Producer One and Producer Two;yes\n"
+                + "1981;Movie 2;Studio B;Producer One;\n");
+        Path second = write("b.csv", HEADER
+                + "1982;Movie 3;Studio A, Studio B;Producer Two;yes\n"
+                + "not a year;Broken;Studio A;Producer One;yes\n");
+
+        MovieIngestPipeline.IngestResult result = movieIngestPipeline.load(
+                List.of(CsvShard.ofPath(first), CsvShard.ofPath(second)));
+
+        assertEquals(3, result.rows());
+        assertEquals(1, result.skipped());
+
+        // Produtores e estúdios repetidos entre os arquivos viram uma única linha
+        assertEquals(2, producerRepository.count());
+        assertEquals(2, studioRepository.count());
+
+        // A gravação segue a ordem dos arquivos, então os ids acompanham a ordem das linhas
+        List<String> titles = movieRepository.findAll().stream()
+                .sorted((m1, m2) -> m1.getId().compareTo(m2.getId()))
+                .map(Movie::getTitle)
+                .toList();
+        assertEquals(List.of("Movie 1", "Movie 2", "Movie 3"), titles);
+    }
+
+    @Test
+    void testCollapsesNameVariantsAndAliases() throws Exception {
+        nameAliasLoader.load(write("aliases.csv", "# tipo;apelido;nome canônico\nproducer;J. Silver;Joel Silver\n"));
+        Path csv = write("variants.csv", HEADER
+                + "1980;Movie 1;Studio A;Joel Silver;yes\n"
+                + "1981;Movie 2;studio  a;JOEL SILVER and J. Silver;yes\n"
+                + "1982;Movie 3;STUDIO A; joel   silver ;\n");
+
+        movieIngestPipeline.load(List.of(CsvShard.ofPath(csv)));
+
+        // Caixa, espaços e apelido resolvem para o mesmo registro, com a primeira grafia vista
+        assertEquals(1, producerRepository.count());
+        assertEquals(1, studioRepository.count());
+        assertEquals("Joel Silver", producerRepository.findByName("  JOEL silver").orElseThrow().getName());
+        assertEquals("Studio A", studioRepository.findByName("studio a").orElseThrow().getName());
+
+        // Duas variações no mesmo filme não duplicam a associação
+        Movie second = movieRepository.findAll().stream()
+                .filter(movie -> movie.getTitle().equals("Movie 2"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, second.getProducers().size());
+    }
+
+    @Test
+    void testFailsWithShardNameOnMissingFile() {
+        Path missing = tempDir.resolve("missing.csv");
+
+        Exception exception = assertThrows(IOException.class,
+                () -> movieIngestPipeline.load(List.of(CsvShard.ofPath(missing))));
+        assertTrue(exception.getMessage().contains("missing.csv"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,200 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.dto.ProducerInterval;
+import br.movies.service.ProducerIntervalIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.Watchable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "movies.loader.watch=true",
+        "movies.loader.watch-debounce=300ms",
+        "movies.loader.error-mode=strict"
+})
+@ActiveProfiles("test")
+class MovieSourceWatcherTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+    private static final long TIMEOUT_MILLIS = 15_000;
+    // Bem acima do debounce: tempo para o watcher reagir a um evento, se fosse reagir
+    private static final long QUIET_MILLIS = 1_500;
+
+    // Criado antes do contexto: a carga do boot já lê este diretório
+    private static final Path DIRECTORY = createSources();
+
+    @DynamicPropertySource
+    static void sources(DynamicPropertyRegistry registry) {
+        registry.add("movies.loader.sources", DIRECTORY::toString);
+    }
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerIntervalIndex producerIntervalIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterAll
+    static void deleteSources() throws IOException {
+        try (Stream<Path> files = Files.walk(DIRECTORY)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    void testChangedCsvIsReloadedOnceAndFailuresKeepCurrentData() throws Exception {
+        Path csv = DIRECTORY.resolve("movies.csv");
+
+        // Várias gravações seguidas dentro do debounce viram uma recarga só
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n");
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n1985;Movie B;Studio;Producer One;yes\n");
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n1985;Movie B;Studio;Producer One;yes\n"
+                + "1990;Movie C;Studio;Producer One;yes\n");
+        awaitUntil(() -> titles().contains("Movie C"));
+        assertThat(producerIntervalIndex.getProducerIntervals().getMin())
+                .extracting(ProducerInterval::getPreviousWin, ProducerInterval::getFollowingWin)
+                .containsExactly(tuple(1980, 1985), tuple(1985, 1990));
+        Thread.sleep(QUIET_MILLIS);
+        assertThat(reloads()).isEqualTo(1);
+
+        // Arquivos que não são .csv são ignorados
+        write(DIRECTORY.resolve("notes.txt"), "not a movie list");
+        Thread.sleep(QUIET_MILLIS);
+        assertThat(reloads()).isEqualTo(1);
+
+        // Linha inválida em modo strict: a recarga falha e os dados atuais continuam
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\nnot-a-year;Movie B;Studio;Producer One;yes\n");
+        Thread.sleep(QUIET_MILLIS);
+        assertThat(reloads()).isEqualTo(1);
+        assertThat(titles()).containsExactlyInAnyOrder("Movie A", "Movie B", "Movie C");
+
+        // O watcher segue ativo depois da falha
+        write(csv, HEADER + "1980;Movie A;Studio;Producer One;yes\n1990;Movie C;Studio;Producer One;yes\n");
+        awaitUntil(() -> !titles().contains("Movie B"));
+        assertThat(titles()).containsExactlyInAnyOrder("Movie A", "Movie C");
+        assertThat(reloads()).isEqualTo(2);
+    }
+
+    @Test
+    void testOnlyCsvAndOverflowEventsAreRelevant() {
+        assertThat(MovieSourceWatcher.drain(new FakeWatchKey(event(StandardWatchEventKinds.ENTRY_MODIFY, "movies.CSV"))))
+                .isTrue();
+        assertThat(MovieSourceWatcher.drain(new FakeWatchKey(event(StandardWatchEventKinds.ENTRY_CREATE, "movies.csv.tmp"),
+                event(StandardWatchEventKinds.ENTRY_DELETE, "notes.txt")))).isFalse();
+        assertThat(MovieSourceWatcher.drain(new FakeWatchKey(event(StandardWatchEventKinds.OVERFLOW, null)))).isTrue();
+    }
+
+    private List<String> titles() {
+        return movieRepository.findAll().stream().map(Movie::getTitle).toList();
+    }
+
+    // Recargas concluídas pelo watcher; a carga do boot é registrada com outra origem
+    private long reloads() {
+        Timer timer = meterRegistry.find("movies.loader.duration").tag("source", "delta").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Movie sources were not reloaded within " + TIMEOUT_MILLIS + " ms");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.writeString(file, content);
+    }
+
+    private static Path createSources() {
+        try {
+            Path directory = Files.createTempDirectory("movie-sources");
+            write(directory.resolve("movies.csv"), HEADER + "1980;Movie A;Studio;Producer One;yes\n");
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> WatchEvent<T> event(WatchEvent.Kind<T> kind, String name) {
+        return new WatchEvent<>() {
+            @Override
+            public Kind<T> kind() {
+                return kind;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T context() {
+                return name == null ? null : (T) Path.of(name);
+            }
+        };
+    }
+
+    private record FakeWatchKey(List<WatchEvent<?>> events) implements WatchKey {
+
+        FakeWatchKey(WatchEvent<?>... events) {
+            this(List.of(events));
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public List<WatchEvent<?>> pollEvents() {
+            return events;
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public Watchable watchable() {
+            return null;
+        }
+    }
+}
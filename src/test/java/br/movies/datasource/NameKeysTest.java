@@ -0,0 +1,25 @@
+package br.movies.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameKeysTest {
+
+    @Test
+    void testCaseAndWhitespaceVariantsShareTheSameKey() {
+        assertThat(NameKeys.normalize("Joel Silver")).isEqualTo("joel silver");
+        assertThat(NameKeys.normalize("  JOEL \t silver ")).isEqualTo("joel silver");
+        // Espaço não separável e forma de compatibilidade (NFKC)
+        assertThat(NameKeys.normalize("Joel\u00A0Silver")).isEqualTo("joel silver");
+        assertThat(NameKeys.normalize("\uFF2Aoel Silver")).isEqualTo("joel silver");
+    }
+
+    @Test
+    void testDistinctNamesKeepDistinctKeys() {
+        assertThat(NameKeys.normalize("Joel Silver")).isNotEqualTo(NameKeys.normalize("Joel Silvers"));
+        assertThat(NameKeys.normalize("José")).isEqualTo("josé");
+        assertThat(NameKeys.normalize(null)).isNull();
+        assertThat(NameKeys.normalize("   ")).isEmpty();
+    }
+}
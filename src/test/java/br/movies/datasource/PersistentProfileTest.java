@@ -0,0 +1,86 @@
+package br.movies.datasource;
+
+import br.movies.datasource.entity.DataLoadState;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.repository.DataLoadStateRepository;
+import br.movies.datasource.repository.MovieRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "persistent"})
+class PersistentProfileTest {
+
+    private static Path csv;
+
+    @Autowired
+    private DataLoader dataLoader;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private DataLoadStateRepository dataLoadStateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Base em arquivo e CSV próprios num diretório temporário
+    @DynamicPropertySource
+    static void dataDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("ws-movies-persistent");
+        csv = directory.resolve("movies.csv");
+        Files.writeString(csv, """
+                year;title;studios;producers;winner
+                1980;Movie 1;Studio;Producer One;yes
+                1990;Movie 2;Studio;Producer One;yes
+                """);
+        registry.add("movies.data-dir", () -> directory.resolve("db").toString());
+        registry.add("movies.loader.sources", csv::toString);
+    }
+
+    @Test
+    void testSchemaFromMigrationsAndLoadSkippedWhenSourcesUnchanged() throws Exception {
+        // O boot carregou o CSV numa base criada pelas migrações, com os índices das consultas de intervalos
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where index_name = 'IX_MOVIE_WINNER_YEAR'", Integer.class))
+                .isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where index_name = 'IX_MOVIE_PRODUCERS_PRODUCER'", Integer.class))
+                .isPositive();
+        List<Long> ids = movieRepository.findAll().stream().map(Movie::getId).sorted().toList();
+        assertThat(ids).hasSize(2);
+        assertThat(dataLoadStateRepository.findById(DataLoadState.SINGLETON_ID)).get()
+                .extracting(DataLoadState::getMovies).isEqualTo(2L);
+
+        // Mesmos arquivos: nada é regravado
+        dataLoader.run();
+        assertThat(movieRepository.findAll().stream().map(Movie::getId).sorted().toList()).isEqualTo(ids);
+        assertThat(meterRegistry.find("movies.loader.duration").tag("source", "database").timer().count()).isEqualTo(1);
+
+        // Arquivo alterado: só a linha nova é gravada e os filmes existentes mantêm o id
+        Files.writeString(csv, "2000;Movie 3;Studio;Producer Two;\n", StandardOpenOption.APPEND);
+        dataLoader.run();
+        assertThat(movieRepository.count()).isEqualTo(3);
+        assertThat(movieRepository.findAll().stream().map(Movie::getId).toList()).containsAll(ids);
+        assertThat(dataLoadStateRepository.findById(DataLoadState.SINGLETON_ID)).get()
+                .extracting(DataLoadState::getMovies).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,191 @@
+package br.movies.datasource.columnar;
+
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.service.ColumnarProducerIntervalCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MovieColumnsTest {
+
+    @Test
+    void testRowsAreOrderedByIdAndLinksGroupedPerMovie() {
+        // Filmes e associações fora de ordem
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(30, 1990, "Movie C", true)
+                .addMovie(10, 1980, "Movie A", false)
+                .addMovie(20, 1985, "Movie B", true)
+                .addProducer(20, 2, "Producer Two")
+                .addProducer(30, 1, "Producer One")
+                .addProducer(20, 1, "Producer One")
+                .addStudio(10, 7, "Studio")
+                .addStudio(30, 7, "Studio")
+                .addProducer(99, 1, "Producer One")
+                .build();
+
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.id(0)).isEqualTo(10);
+        assertThat(columns.title(1)).isEqualTo("Movie B");
+        assertThat(columns.winner(0)).isFalse();
+        assertThat(columns.winnerCount()).isEqualTo(2);
+        assertThat(columns.rowOf(30)).isEqualTo(2);
+        assertThat(columns.rowOf(99)).isEqualTo(-1);
+
+        int row = columns.rowOf(20);
+        assertThat(columns.producerEnd(row) - columns.producerStart(row)).isEqualTo(2);
+        assertThat(columns.producerName(columns.producerAt(columns.producerStart(row)))).isEqualTo("Producer Two");
+        assertThat(columns.studioEnd(row) - columns.studioStart(row)).isZero();
+        assertThat(columns.studioCount()).isEqualTo(1);
+
+        // Vitórias de Producer One ordenadas por ano; o link do filme 99 (inexistente) é ignorado
+        int producer = columns.producerCode("Producer One");
+        assertThat(columns.winEnd(producer) - columns.winStart(producer)).isEqualTo(2);
+        assertThat(columns.winYear(columns.winStart(producer))).isEqualTo(1985);
+        assertThat(columns.winYear(columns.winStart(producer) + 1)).isEqualTo(1990);
+    }
+
+    @Test
+    void testColumnarIntervalsMatchExpectedMinAndMax() {
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        long movieId = 1;
+        for (int year : new int[]{1980, 1985, 1990}) {
+            builder.addMovie(movieId, year, "Movie " + movieId, true).addProducer(movieId++, 1, "Producer One");
+        }
+        for (int year : new int[]{1982, 1984}) {
+            builder.addMovie(movieId, year, "Movie " + movieId, true).addProducer(movieId++, 2, "Producer Two");
+        }
+        for (int year : new int[]{1981, 1991}) {
+            builder.addMovie(movieId, year, "Movie " + movieId, true).addProducer(movieId++, 3, "Producer Three");
+        }
+        // Não vencedor não conta
+        builder.addMovie(movieId, 1983, "Movie " + movieId, false).addProducer(movieId, 2, "Producer Two");
+
+        ProducerIntervalResponse response = ColumnarProducerIntervalCalculator.calculate(builder.build());
+
+        assertThat(response.getMin())
+                .extracting(ProducerInterval::getProducer, ProducerInterval::getInterval)
+                .containsExactly(tuple("Producer Two", 2));
+        assertThat(response.getMax())
+                .extracting(ProducerInterval::getProducer, ProducerInterval::getInterval,
+                        ProducerInterval::getPreviousWin, ProducerInterval::getFollowingWin)
+                .containsExactly(tuple("Producer Three", 10, 1981, 1991));
+    }
+
+    @Test
+    void testEmptyColumns() {
+        ProducerIntervalResponse response = ColumnarProducerIntervalCalculator.calculate(MovieColumns.EMPTY);
+
+        assertThat(MovieColumns.EMPTY.size()).isZero();
+        assertThat(response.getMin()).isEmpty();
+        assertThat(response.getMax()).isEmpty();
+    }
+
+    @Test
+    void testToBuilderCopiesRowsExceptExcludedMovies() {
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(10, 1980, "Movie A", true)
+                .addMovie(20, 1985, "Movie B", true)
+                .addProducer(10, 1, "Producer One")
+                .addProducer(20, 1, "Producer One")
+                .addStudio(20, 7, "Studio")
+                .build();
+
+        // Filme 20 alterado (novo produtor, perde a vitória) e filme 5 incluído
+        MovieColumns patched = columns.toBuilder(Set.of(20L))
+                .addMovie(20, 1985, "Movie B", false)
+                .addProducer(20, 2, "Producer Two")
+                .addMovie(5, 1975, "Movie Z", true)
+                .build();
+
+        assertThat(patched.size()).isEqualTo(3);
+        assertThat(patched.id(0)).isEqualTo(5);
+        assertThat(patched.winner(patched.rowOf(20))).isFalse();
+        assertThat(patched.studioEnd(patched.rowOf(20)) - patched.studioStart(patched.rowOf(20))).isZero();
+        assertThat(patched.producerName(patched.producerAt(patched.producerStart(patched.rowOf(20)))))
+                .isEqualTo("Producer Two");
+        assertThat(patched.producerId(patched.producerCode("Producer One"))).isEqualTo(1);
+        // Estúdio sem filmes some do dicionário, como numa reconstrução completa
+        assertThat(patched.studioCode("Studio")).isEqualTo(-1);
+        int producer = patched.producerCode("Producer One");
+        assertThat(patched.winEnd(producer) - patched.winStart(producer)).isEqualTo(1);
+    }
+
+    @Test
+    void testProducerIndexesByIdPrefixAndWins() {
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(1, 1990, "Movie 1", true)
+                .addMovie(2, 1980, "Movie 2", true)
+                .addMovie(3, 1985, "Movie 3", false)
+                .addMovie(4, 1995, "Movie 4", true)
+                .addProducer(1, 30, "Joel Silver")
+                .addProducer(2, 30, "Joel Silver")
+                .addProducer(2, 10, "Jon Peters")
+                .addProducer(3, 20, "Allan Carr")
+                .addProducer(4, 10, "Jon Peters")
+                .addProducer(4, 40, "Joe Roth")
+                .build();
+
+        int joel = columns.producerCodeById(30);
+        assertThat(columns.producerName(joel)).isEqualTo("Joel Silver");
+        assertThat(columns.producerCodeById(99)).isEqualTo(-1);
+        assertThat(columns.producerMovieCount(columns.producerCodeById(20))).isEqualTo(1);
+
+        // Vitórias em ordem de ano, apontando para a linha do filme
+        assertThat(columns.winYear(columns.winStart(joel))).isEqualTo(1980);
+        assertThat(columns.title(columns.winRow(columns.winStart(joel)))).isEqualTo("Movie 2");
+        assertThat(columns.title(columns.winRow(columns.winStart(joel) + 1))).isEqualTo("Movie 1");
+
+        assertThat(names(columns, columns.producersWithPrefix(" JO", 10))).containsExactly("Joe Roth", "Joel Silver", "Jon Peters");
+        assertThat(names(columns, columns.producersWithPrefix("jo", 2))).containsExactly("Joe Roth", "Joel Silver");
+        assertThat(names(columns, columns.producersWithPrefix("joel silver x", 10))).isEmpty();
+        assertThat(names(columns, columns.producersWithPrefix("zz", 10))).isEmpty();
+
+        // Empate em vitórias desfeito pelo nome; quem não venceu fica no fim
+        int[] ranking = new int[columns.producerCount()];
+        for (int rank = 0; rank < ranking.length; rank++) {
+            ranking[rank] = columns.producerByWinRank(rank);
+        }
+        assertThat(names(columns, ranking)).containsExactly("Joel Silver", "Jon Peters", "Joe Roth", "Allan Carr");
+    }
+
+    @Test
+    void testPatchWithTheSameProducersKeepsIndexesAndReranksWins() {
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(1, 1980, "Movie 1", true)
+                .addMovie(2, 1985, "Movie 2", false)
+                .addMovie(3, 1990, "Movie 3", true)
+                .addProducer(1, 30, "Joel Silver")
+                .addProducer(2, 10, "Allan Carr")
+                .addProducer(3, 10, "Allan Carr")
+                .addProducer(3, 30, "Joel Silver")
+                .build();
+
+        // Mesmos produtores, só a vitória do filme 2 muda: Allan Carr empata com Joel Silver e passa à frente pelo nome
+        MovieColumns patched = columns.toBuilder(Set.of(2L))
+                .addMovie(2, 1985, "Movie 2", true)
+                .addProducer(2, 10, "Allan Carr")
+                .build();
+
+        int[] ranking = new int[patched.producerCount()];
+        for (int rank = 0; rank < ranking.length; rank++) {
+            ranking[rank] = patched.producerByWinRank(rank);
+        }
+        assertThat(names(patched, ranking)).containsExactly("Allan Carr", "Joel Silver");
+        assertThat(patched.producerName(patched.producerCodeById(10))).isEqualTo("Allan Carr");
+        assertThat(names(patched, patched.producersWithPrefix("al", 10))).containsExactly("Allan Carr");
+        int allan = patched.producerCodeById(10);
+        assertThat(patched.winEnd(allan) - patched.winStart(allan)).isEqualTo(2);
+    }
+
+    private static String[] names(MovieColumns columns, int[] producers) {
+        String[] names = new String[producers.length];
+        for (int i = 0; i < producers.length; i++) {
+            names[i] = columns.producerName(producers[i]);
+        }
+        return names;
+    }
+}
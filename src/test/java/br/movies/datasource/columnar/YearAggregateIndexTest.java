@@ -0,0 +1,127 @@
+package br.movies.datasource.columnar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YearAggregateIndexTest {
+
+    private record TestMovie(long id, int year, boolean winner, List<Integer> producers) {
+    }
+
+    @Test
+    void testRangeQueriesCountWinnersAndDistinctProducers() {
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(1, 1980, "A", true)
+                .addMovie(2, 1983, "B", true)
+                .addMovie(3, 1983, "C", true)
+                .addMovie(4, 1990, "D", false)
+                .addMovie(5, 1995, "E", true)
+                .addProducer(1, 1, "Producer One")
+                .addProducer(2, 1, "Producer One")
+                .addProducer(3, 2, "Producer Two")
+                .addProducer(4, 3, "Producer Three")
+                .addProducer(5, 1, "Producer One")
+                .build();
+        YearAggregateIndex index = new YearAggregateIndex();
+        index.rebuild(columns);
+        YearAggregates aggregates = index.current();
+
+        // Só anos com vencedores entram no eixo
+        assertThat(aggregates.yearCount()).isEqualTo(3);
+        assertThat(aggregates.winnersAt(1)).isEqualTo(2);
+        assertThat(aggregates.producersAt(1)).isEqualTo(2);
+        assertThat(aggregates.winners(1900, 2100)).isEqualTo(4);
+        assertThat(aggregates.winners(1981, 1994)).isEqualTo(2);
+        assertThat(aggregates.winners(1984, 1994)).isZero();
+        assertThat(aggregates.distinctProducers(1900, 2100)).isEqualTo(2);
+        assertThat(aggregates.distinctProducers(1984, 1995)).isEqualTo(1);
+        assertThat(aggregates.distinctProducers(1995, 1980)).isZero();
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFullScan() {
+        Random random = new Random(42);
+        Map<Long, TestMovie> movies = new TreeMap<>();
+        long nextId = 1;
+        for (int i = 0; i < 300; i++) {
+            movies.put(nextId, randomMovie(nextId++, random));
+        }
+        MovieColumns columns = build(movies);
+        YearAggregateIndex index = new YearAggregateIndex();
+        index.rebuild(columns);
+        assertMatchesScan(movies, index.current());
+
+        // Inclusões, alterações e remoções aplicadas só pelos filmes afetados
+        for (int round = 0; round < 100; round++) {
+            Set<Long> changed = new HashSet<>();
+            for (int i = 0; i < 1 + random.nextInt(4); i++) {
+                List<Long> ids = new ArrayList<>(movies.keySet());
+                long id = ids.get(random.nextInt(ids.size()));
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        movies.put(nextId, randomMovie(nextId, random));
+                        changed.add(nextId++);
+                    }
+                    case 1 -> {
+                        movies.remove(id);
+                        changed.add(id);
+                    }
+                    default -> {
+                        movies.put(id, randomMovie(id, random));
+                        changed.add(id);
+                    }
+                }
+            }
+            MovieColumns next = build(movies);
+            index.update(columns, next, changed);
+            columns = next;
+            assertMatchesScan(movies, index.current());
+        }
+    }
+
+    private static TestMovie randomMovie(long id, Random random) {
+        Set<Integer> producers = new HashSet<>();
+        for (int i = 0; i < 1 + random.nextInt(3); i++) {
+            producers.add(random.nextInt(50));
+        }
+        return new TestMovie(id, 1980 + random.nextInt(45), random.nextInt(3) == 0, new ArrayList<>(producers));
+    }
+
+    private static MovieColumns build(Map<Long, TestMovie> movies) {
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        for (TestMovie movie : movies.values()) {
+            builder.addMovie(movie.id(), movie.year(), "Movie " + movie.id(), movie.winner());
+            for (int producer : movie.producers()) {
+                builder.addProducer(movie.id(), producer, "Producer " + producer);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void assertMatchesScan(Map<Long, TestMovie> movies, YearAggregates aggregates) {
+        for (int from = 1978; from <= 2026; from += 2) {
+            for (int to = from; to <= 2026; to += 3) {
+                int winners = 0;
+                Set<Integer> producers = new HashSet<>();
+                for (TestMovie movie : movies.values()) {
+                    if (movie.winner() && movie.year() >= from && movie.year() <= to) {
+                        winners++;
+                        producers.addAll(movie.producers());
+                    }
+                }
+                assertThat(aggregates.winners(from, to)).as("winners %d..%d", from, to).isEqualTo(winners);
+                assertThat(aggregates.distinctProducers(from, to)).as("producers %d..%d", from, to)
+                        .isEqualTo(producers.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.movies.datasource.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieCsvReaderTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @Test
+    void testParsesMovieList() throws IOException {
+        List<MovieRecord> records = readAll(HEADER
+                + "1980;Can't Stop the Music;Associated Film Distribution;Allan Carr;yes\n"
+                + "1980;Cruising;Lorimar Productions, United Artists;Jerry Weintraub;\n", CsvErrorMode.STRICT);
+
+        assertEquals(2, records.size());
+
+        MovieRecord first = records.get(0);
+        assertEquals(2, first.line());
+        assertEquals(1980, first.year());
+        assertEquals("Can't Stop the Music", first.title());
+        assertEquals(List.of("Associated Film Distribution"), first.studios());
+        assertEquals(List.of("Allan Carr"), first.producers());
+        assertTrue(first.winner());
+
+        MovieRecord second = records.get(1);
+        assertEquals(List.of("Lorimar Productions", "United Artists"), second.studios());
+        assertFalse(second.winner());
+    }
+
+    @Test
+    void testSplitsProducersOnCommaAndAnd() throws IOException {
+        List<MovieRecord> records = readAll(HEADER
+                + "1984;Bolero;Cannon Films;Bo Derek, John Derek and  Alexander Sanders,;yes\n"
+                + "1990;Grandview;Studio;Sandy Anderson and Andrew;no", CsvErrorMode.STRICT);
+
+        assertEquals(List.of("Bo Derek", "John Derek", "Alexander Sanders"), records.get(0).producers());
+        // "and" dentro de um nome não separa produtores
+        assertEquals(List.of("Sandy Anderson", "Andrew"), records.get(1).producers());
+    }
+
+    @Test
+    void testHandlesQuotedFields() throws IOException {
+        List<MovieRecord> records = readAll(HEADER
+                + "1999;\"Wild; Wild \"\"West\"\"\";\"Warner Bros.\";Jon Peters;yes\r\n", CsvErrorMode.STRICT);
+
+        assertEquals(1, records.size());
+        assertEquals("Wild; Wild \"West\"", records.get(0).title());
+        assertEquals(List.of("Warner Bros."), records.get(0).studios());
+    }
+
+    @Test
+    void testLenientModeSkipsInvalidLines() throws IOException {
+        String csv = HEADER
+                + "1980;Valid;Studio;Producer;yes\n"
+                + "19x0;Invalid year;Studio;Producer;yes\n"
+                + "\n"
+                + "1981;Missing fields\n"
+                + "1982;Valid too;Studio;Producer\n";
+
+        MovieCsvReader reader = reader(csv, CsvErrorMode.LENIENT);
+        List<MovieRecord> records = new ArrayList<>();
+        MovieRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+
+        assertEquals(2, records.size());
+        assertEquals(6, records.get(1).line());
+        assertEquals(2, reader.getSkippedRecords());
+        assertEquals(3, reader.getErrors().get(0).getLine());
+        assertEquals(5, reader.getErrors().get(1).getLine());
+    }
+
+    @Test
+    void testStrictModeFailsWithLineNumber() {
+        String csv = HEADER
+                + "1980;Valid;Studio;Producer;yes\n"
+                + "abcd;Invalid year;Studio;Producer;yes\n";
+
+        CsvParseException exception = assertThrows(CsvParseException.class, () -> readAll(csv, CsvErrorMode.STRICT));
+        assertEquals(3, exception.getLine());
+    }
+
+    @Test
+    void testRecordsSpanningBufferBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1000; i++) {
+            csv.append(1980 + i % 40).append(";Movie ").append(i).append(";Studio A, Studio B;Producer ")
+                    .append(i % 7).append(" and Producer ").append(i % 11).append(";").append(i % 2 == 0 ? "yes" : "")
+                    .append('\n');
+        }
+
+        // Buffer de 16 bytes obriga os registros a atravessarem várias leituras do canal
+        MovieCsvReader reader = new MovieCsvReader(channel(csv.toString()), CsvErrorMode.STRICT, 16, 1024);
+        int count = 0;
+        MovieRecord record;
+        while ((record = reader.next()) != null) {
+            assertEquals("Movie " + count, record.title());
+            assertEquals(2, record.producers().size());
+            assertEquals(count % 2 == 0, record.winner());
+            count++;
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test
+    void testRecordLargerThanLimitIsRejected() throws IOException {
+        String csv = HEADER + "1980;" + "x".repeat(200) + ";Studio;Producer;yes\n1981;Ok;Studio;Producer;yes\n";
+
+        MovieCsvReader reader = new MovieCsvReader(channel(csv), CsvErrorMode.LENIENT, 32, 64);
+        MovieRecord record = reader.next();
+
+        assertEquals("Ok", record.title());
+        assertNull(reader.next());
+        assertEquals(1, reader.getSkippedRecords());
+    }
+
+    private List<MovieRecord> readAll(String csv, CsvErrorMode mode) throws IOException {
+        List<MovieRecord> records = new ArrayList<>();
+        try (MovieCsvReader reader = reader(csv, mode)) {
+            MovieRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private MovieCsvReader reader(String csv, CsvErrorMode mode) {
+        return new MovieCsvReader(channel(csv), mode);
+    }
+
+    private ReadableByteChannel channel(String csv) {
+        InputStream inputStream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        return Channels.newChannel(inputStream);
+    }
+}
@@ -0,0 +1,127 @@
+package br.movies.datasource.snapshot;
+
+import br.movies.datasource.CsvShard;
+import br.movies.datasource.DataLoader;
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.event.MovieChangeTracker;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.datasource.repository.ProducerRepository;
+import br.movies.datasource.repository.StudioRepository;
+import br.movies.dto.ProducerIntervalResponse;
+import br.movies.service.JvmProducerIntervalCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MovieSnapshotStoreTest {
+
+    @Autowired
+    private MovieSnapshotStore movieSnapshotStore;
+
+    @Autowired
+    private DataLoader dataLoader;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private JvmProducerIntervalCalculator jvmProducerIntervalCalculator;
+
+    @Autowired
+    private MovieChangeTracker movieChangeTracker;
+
+    @TempDir
+    private Path directory;
+
+    private byte[] sourceHash;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clearTables();
+        dataLoader.run();
+        sourceHash = MovieSnapshotStore.sourceHash(List.of(CsvShard.ofClasspath("Movielist.csv")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTables();
+        movieChangeTracker.reloaded();
+    }
+
+    @Test
+    void testRestoreReproducesLoadedData() throws IOException {
+        Path snapshot = directory.resolve("movies.snap");
+        ProducerIntervalResponse expected = jvmProducerIntervalCalculator.calculate();
+        long movies = movieRepository.count();
+        long producers = producerRepository.count();
+        long maxMovieId = movieRepository.findAll().stream().mapToLong(Movie::getId).max().orElseThrow();
+
+        movieSnapshotStore.write(snapshot, sourceHash);
+        clearTables();
+
+        assertThat(movieSnapshotStore.restore(snapshot, sourceHash)).isTrue();
+        assertThat(movieRepository.count()).isEqualTo(movies);
+        assertThat(producerRepository.count()).isEqualTo(producers);
+        assertThat(jvmProducerIntervalCalculator.calculate()).isEqualTo(expected);
+
+        // Sequences continuam depois dos ids restaurados
+        Movie created = movieRepository.save(Movie.builder().title("New").yearMovie(2030).winner(false).build());
+        assertThat(created.getId()).isGreaterThan(maxMovieId);
+    }
+
+    @Test
+    void testStaleSnapshotIsNotRestored() throws IOException {
+        Path snapshot = directory.resolve("movies.snap");
+        movieSnapshotStore.write(snapshot, sourceHash);
+        clearTables();
+
+        byte[] otherHash = sourceHash.clone();
+        otherHash[0] ^= 1;
+
+        assertThat(movieSnapshotStore.restore(snapshot, otherHash)).isFalse();
+        assertThat(movieSnapshotStore.restore(directory.resolve("missing.snap"), sourceHash)).isFalse();
+        assertThat(movieRepository.count()).isZero();
+    }
+
+    @Test
+    void testCorruptedSnapshotIsRejected() throws IOException {
+        Path snapshot = directory.resolve("movies.snap");
+        movieSnapshotStore.write(snapshot, sourceHash);
+        clearTables();
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(snapshot, bytes);
+
+        assertThatThrownBy(() -> movieSnapshotStore.restore(snapshot, sourceHash))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+        assertThat(movieRepository.count()).isZero();
+    }
+
+    private void clearTables() {
+        movieRepository.deleteAll();
+        producerRepository.deleteAll();
+        studioRepository.deleteAll();
+    }
+}
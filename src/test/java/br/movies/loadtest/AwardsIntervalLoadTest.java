@@ -0,0 +1,73 @@
+package br.movies.loadtest;
+
+import br.movies.WsMoviesApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara threads de plataforma, virtual threads e o caminho em cache sob a mesma carga.
+ * Cada cenário sobe a aplicação numa porta livre; sem cache a estratégia padrão é jvm para que
+ * toda requisição consulte a base.
+ * Executar com: mvn test -Dtest=AwardsIntervalLoadTest -Dloadtest=true
+ * Ajustes: -Dloadtest.concurrency=1000 -Dloadtest.seconds=30 -Dloadtest.warmup=10 -Dloadtest.strategy=jvm
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class AwardsIntervalLoadTest {
+
+    private record Scenario(String name, boolean virtualThreads, boolean cache, boolean conditional) {
+    }
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 500);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 20));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 5));
+        String strategy = System.getProperty("loadtest.strategy", "jvm");
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("platform", false, false, false),
+                new Scenario("virtual", true, false, false),
+                new Scenario("platform+cache", false, true, false),
+                new Scenario("virtual+cache", true, true, false),
+                new Scenario("virtual+cache+etag", true, true, true));
+
+        List<String> lines = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            try (ConfigurableApplicationContext context = start(scenario, strategy)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI uri = URI.create("http://localhost:" + port + "/ws-movies/producers/awards-intervals");
+
+                LoadTestClient.Result result = new LoadTestClient(uri, concurrency, warmup, duration,
+                        scenario.conditional()).run();
+                lines.add(LoadTestClient.format(scenario.name(), result));
+                assertThat(result.requests()).isPositive();
+            }
+        }
+
+        System.out.printf("concurrency %d, %d s, strategy %s%n", concurrency, duration.toSeconds(), strategy);
+        System.out.println(LoadTestClient.header());
+        lines.forEach(System.out::println);
+    }
+
+    private ConfigurableApplicationContext start(Scenario scenario, String strategy) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(WsMoviesApplication.class)
+                .properties("server.port=0",
+                        "logging.level.root=warn",
+                        "movies.intervals.strategy=" + strategy,
+                        "movies.cache.enabled=" + scenario.cache());
+        if (scenario.virtualThreads()) {
+            builder.profiles("virtual");
+        }
+        return builder.run();
+    }
+}
@@ -0,0 +1,175 @@
+package br.movies.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Cliente de carga em malha fechada: {@code concurrency} clientes virtuais repetem o GET até o fim
+ * da duração. Cada cliente guarda suas latências, que são ordenadas no final para os percentis.
+ *
+ * Uso isolado: java ... LoadTestClient <url> <concorrência> <segundos> [conditional]
+ */
+public class LoadTestClient {
+
+    public record Result(long requests, long errors, double seconds,
+                         double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        public double throughput() {
+            return requests / seconds;
+        }
+    }
+
+    private final URI uri;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    // Envia If-None-Match com o ETag da primeira resposta (exercita o caminho 304 do cache)
+    private final boolean conditional;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadTestClient(URI uri, int concurrency, Duration warmup, Duration duration, boolean conditional) {
+        this.uri = uri;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.conditional = conditional;
+    }
+
+    public Result run() throws Exception {
+        String etag = conditional ? fetchEtag() : null;
+
+        if (!warmup.isZero()) {
+            drive(etag, warmup);
+        }
+        return drive(etag, duration);
+    }
+
+    private Result drive(String etag, Duration length) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + length.toNanos();
+
+        List<Future<Latencies>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> worker(etag, deadline)));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Latencies all = new Latencies();
+        long errors = 0;
+        for (Future<Latencies> future : futures) {
+            Latencies latencies = future.get();
+            all.addAll(latencies);
+            errors += latencies.errors;
+        }
+        long[] sorted = all.sorted();
+        return new Result(sorted.length, errors, seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private Latencies worker(String etag, long deadline) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        HttpRequest request = builder.build();
+
+        Latencies latencies = new Latencies();
+        while (System.nanoTime() < deadline) {
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200 || response.statusCode() == 304) {
+                    latencies.add(System.nanoTime() - begin);
+                } else {
+                    latencies.errors++;
+                }
+            } catch (IOException e) {
+                latencies.errors++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return latencies;
+    }
+
+    private String fetchEtag() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.headers().firstValue("ETag").orElse(null);
+    }
+
+    // Índice pelo método nearest-rank, em milissegundos
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class Latencies {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private void addAll(Latencies other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        private long[] sorted() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    public static String header() {
+        return String.format("%-28s %12s %8s %10s %10s %10s %10s", "scenario", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    }
+
+    public static String format(String scenario, Result result) {
+        return String.format("%-28s %12.1f %8d %10.2f %10.2f %10.2f %10.2f", scenario, result.throughput(), result.errors(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/ws-movies/producers/awards-intervals");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        boolean conditional = args.length > 3 && args[3].equals("conditional");
+
+        Result result = new LoadTestClient(uri, concurrency, Duration.ofSeconds(5), duration, conditional).run();
+        System.out.println(header());
+        System.out.println(format(uri.getPath(), result));
+    }
+}
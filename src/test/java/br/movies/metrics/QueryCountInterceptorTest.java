@@ -0,0 +1,63 @@
+package br.movies.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountInterceptorTest {
+
+    private final QueryCounter queryCounter = new QueryCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountInterceptor interceptor = new QueryCountInterceptor(queryCounter, meterRegistry);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void testSynchronousRequestRecordsOnce() {
+        MockHttpServletRequest request = request("/movies");
+
+        interceptor.preHandle(request, response, null);
+        queryCounter.inspect("select 1");
+        queryCounter.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(summary("/movies").count()).isEqualTo(1);
+        assertThat(summary("/movies").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void testAsyncDispatchDoesNotRecordASecondSample() {
+        MockHttpServletRequest request = request("/producers/awards-intervals/stream");
+
+        // Despacho inicial: registra quando a thread do container é liberada
+        interceptor.preHandle(request, response, null);
+        queryCounter.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        // Despacho ASYNC que encerra a resposta, em outra thread do container
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        queryCounter.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary summary = summary("/producers/awards-intervals/stream");
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(1);
+        assertThat(queryCounter.end()).isEqualTo(-1);
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ws-movies" + pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private DistributionSummary summary(String uri) {
+        return meterRegistry.get("movies.http.queries").tags("method", "GET", "uri", uri).summary();
+    }
+}
@@ -0,0 +1,75 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumns;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AwardIntervalEngineTest {
+
+    @Test
+    void testGroupsProducersAndStudiosInOnePass() {
+        // Fora de ordem de ano: o motor percorre os vencedores ordenados
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(1, 1982, "Movie 1", true)
+                .addMovie(2, 1980, "Movie 2", true)
+                .addMovie(3, 1981, "Movie 3", true)
+                .addMovie(4, 1990, "Movie 4", true)
+                .addMovie(5, 1991, "Movie 5", false)
+                .addMovie(6, 1981, "Movie 6", true)
+                .addProducer(1, 1, "Producer One")
+                .addProducer(2, 1, "Producer One")
+                .addProducer(4, 1, "Producer One")
+                .addProducer(3, 2, "Producer Two")
+                .addProducer(5, 2, "Producer Two")
+                .addStudio(1, 10, "Studio A")
+                .addStudio(2, 10, "Studio A")
+                .addStudio(3, 10, "Studio A")
+                .addStudio(6, 10, "Studio A")
+                .addStudio(4, 20, "Studio B")
+                .addStudio(5, 20, "Studio B")
+                .build();
+
+        Map<AwardRelation, AwardIntervalEngine.AwardGrouping> groupings =
+                AwardIntervalEngine.calculate(columns, EnumSet.allOf(AwardRelation.class));
+
+        AwardIntervalEngine.AwardGrouping producers = groupings.get(AwardRelation.PRODUCER);
+        assertThat(producers.min()).extracting(AwardIntervalEngine.AwardInterval::name, AwardIntervalEngine.AwardInterval::interval)
+                .containsExactly(tuple("Producer One", 2));
+        assertThat(producers.max()).extracting(AwardIntervalEngine.AwardInterval::name, AwardIntervalEngine.AwardInterval::interval,
+                        AwardIntervalEngine.AwardInterval::previousWin, AwardIntervalEngine.AwardInterval::followingWin)
+                .containsExactly(tuple("Producer One", 8, 1982, 1990));
+
+        // Duas vitórias em 1981 contam em wins e geram um intervalo 0, sem quebrar a sequência 1980-1982
+        AwardIntervalEngine.AwardGrouping studios = groupings.get(AwardRelation.STUDIO);
+        assertThat(studios.min()).extracting(AwardIntervalEngine.AwardInterval::name, AwardIntervalEngine.AwardInterval::interval)
+                .containsExactly(tuple("Studio A", 0));
+        assertThat(studios.max()).extracting(AwardIntervalEngine.AwardInterval::interval).containsExactly(1, 1);
+        assertThat(studios.stats()).extracting(AwardIntervalEngine.AwardStats::name, AwardIntervalEngine.AwardStats::wins,
+                        AwardIntervalEngine.AwardStats::longestStreak, AwardIntervalEngine.AwardStats::streakStart,
+                        AwardIntervalEngine.AwardStats::streakEnd)
+                .containsExactly(tuple("Studio A", 4, 3, 1980, 1982), tuple("Studio B", 1, 1, 1990, 1990));
+    }
+
+    @Test
+    void testSingleRelationMatchesColumnarCalculator() {
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        long movieId = 1;
+        for (int year : new int[]{1980, 1985, 1990}) {
+            builder.addMovie(movieId, year, "Movie " + movieId, true).addProducer(movieId++, 1, "Producer One");
+        }
+        MovieColumns columns = builder.build();
+
+        AwardIntervalEngine.AwardGrouping grouping = AwardIntervalEngine.calculate(columns, AwardRelation.PRODUCER);
+
+        assertThat(grouping.min()).hasSize(2);
+        assertThat(grouping.stats()).extracting(AwardIntervalEngine.AwardStats::wins, AwardIntervalEngine.AwardStats::longestStreak)
+                .containsExactly(tuple(3, 1));
+        assertThat(ColumnarProducerIntervalCalculator.calculate(columns).getMin()).hasSize(2);
+        assertThat(AwardIntervalEngine.calculate(MovieColumns.EMPTY, AwardRelation.STUDIO).stats()).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package br.movies.service;
+
+import br.movies.config.IntervalProperties;
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.ProducerIntervalResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarProducerIntervalCalculatorTest {
+
+    @Test
+    void testParallelMatchesSequentialOrder() {
+        MovieColumns columns = randomColumns(200_000, 20_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ProducerIntervalResponse sequential = ColumnarProducerIntervalCalculator.calculate(columns);
+            ProducerIntervalResponse parallel = ColumnarProducerIntervalCalculator.calculateParallel(columns, pool);
+
+            assertThat(columns.winYearCount()).isGreaterThan(ColumnarProducerIntervalCalculator.LEAF_WINS * 4);
+            assertThat(sequential.getMin()).isNotEmpty();
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testThresholdSwitchesModeWithSameResult() {
+        MovieColumnStore store = new MovieColumnStore();
+        store.replace(randomColumns(5_000, 500));
+        IntervalProperties properties = new IntervalProperties();
+        ColumnarProducerIntervalCalculator calculator = new ColumnarProducerIntervalCalculator(store, properties);
+
+        properties.setParallelThreshold(0);
+        ProducerIntervalResponse sequential = calculator.calculate();
+        properties.setParallelThreshold(1);
+        ProducerIntervalResponse parallel = calculator.calculate();
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(ColumnarProducerIntervalCalculator.calculateParallel(MovieColumns.EMPTY, ForkJoinPool.commonPool())
+                .getMin()).isEmpty();
+    }
+
+    // Nomes repetidos entre ids diferentes exercitam o desempate pelo id
+    private static MovieColumns randomColumns(int movies, int producers) {
+        Random random = new Random(42);
+        MovieColumns.Builder builder = new MovieColumns.Builder();
+        for (long movieId = 1; movieId <= movies; movieId++) {
+            builder.addMovie(movieId, 1900 + random.nextInt(120), "Movie " + movieId, random.nextInt(3) == 0);
+            long producer = 1 + random.nextInt(producers);
+            builder.addProducer(movieId, producer, "Producer " + producer % (producers / 2));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,49 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.MovieProducerView;
+
+/**
+ * Linhas (filme, produtor) usadas para montar o índice de intervalos nos testes, sem a base.
+ */
+final class MovieProducerViews {
+
+    private record Row(Long movieId, Integer yearMovie, Boolean winner, Long producerId, String producerName)
+            implements MovieProducerView {
+
+        @Override
+        public Long getMovieId() {
+            return movieId;
+        }
+
+        @Override
+        public Integer getYearMovie() {
+            return yearMovie;
+        }
+
+        @Override
+        public Boolean getWinner() {
+            return winner;
+        }
+
+        @Override
+        public Long getProducerId() {
+            return producerId;
+        }
+
+        @Override
+        public String getProducerName() {
+            return producerName;
+        }
+    }
+
+    private MovieProducerViews() {
+    }
+
+    static MovieProducerView view(Long movieId, Integer year, Boolean winner, Long producerId, String producerName) {
+        return new Row(movieId, year, winner, producerId, producerName);
+    }
+
+    static MovieProducerView winner(Long movieId, Integer year, Long producerId, String producerName) {
+        return view(movieId, year, true, producerId, producerName);
+    }
+}
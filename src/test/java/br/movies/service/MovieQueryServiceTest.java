@@ -0,0 +1,75 @@
+package br.movies.service;
+
+import br.movies.datasource.columnar.MovieColumnStore;
+import br.movies.datasource.columnar.MovieColumns;
+import br.movies.dto.MovieSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovieQueryServiceTest {
+
+    private MovieQueryService movieQueryService;
+
+    @BeforeEach
+    void setUp() {
+        MovieColumns columns = new MovieColumns.Builder()
+                .addMovie(1, 1980, "Can't Stop the Music", true)
+                .addProducer(1, 1, "Allan Carr")
+                .addStudio(1, 1, "Associated Film Distribution")
+                .addMovie(2, 1980, "Cruising", false)
+                .addProducer(2, 2, "Jerry Weintraub")
+                .addStudio(2, 2, "Lorimar Productions")
+                .addStudio(2, 3, "United Artists")
+                .addMovie(3, 1981, "Mommie Dearest", true)
+                .addProducer(3, 3, "Frank Yablans")
+                .addStudio(3, 4, "Paramount Pictures")
+                .addMovie(4, 1984, "Bolero", true)
+                .addProducer(4, 4, "Bo Derek")
+                .addStudio(4, 5, "Cannon Films")
+                .addMovie(5, 1990, "The Adventures of Ford Fairlane", true)
+                .addProducer(5, 5, "Steven Perry")
+                .addProducer(5, 6, "Joel Silver")
+                .addStudio(5, 6, "20th Century Fox")
+                .build();
+
+        MovieColumnStore store = new MovieColumnStore();
+        store.replace(columns);
+        movieQueryService = new MovieQueryService(store);
+    }
+
+    @Test
+    void testWinnersWithinYearRange() {
+        List<MovieSummary> movies = movieQueryService.search(new MovieQuery(1980, 1985, true, null, null), 10);
+
+        assertThat(movies).extracting(MovieSummary::getTitle)
+                .containsExactly("Can't Stop the Music", "Mommie Dearest", "Bolero");
+        assertThat(movieQueryService.count(new MovieQuery(1980, 1985, true, null, null))).isEqualTo(3);
+    }
+
+    @Test
+    void testFilterByProducerAndStudioNames() {
+        List<MovieSummary> byProducer = movieQueryService.search(new MovieQuery(null, null, null, "Joel Silver", null), 10);
+        assertThat(byProducer).singleElement().satisfies(movie -> {
+            assertThat(movie.getYear()).isEqualTo(1990);
+            assertThat(movie.getProducers()).containsExactly("Steven Perry", "Joel Silver");
+            assertThat(movie.getStudios()).containsExactly("20th Century Fox");
+        });
+
+        assertThat(movieQueryService.count(new MovieQuery(null, null, false, null, "United Artists"))).isEqualTo(1);
+        assertThat(movieQueryService.count(new MovieQuery(null, null, null, "Unknown", null))).isZero();
+    }
+
+    @Test
+    void testLimitIsAppliedAndValidated() {
+        assertThat(movieQueryService.search(new MovieQuery(null, null, null, null, null), 2))
+                .extracting(MovieSummary::getId)
+                .containsExactly(1L, 2L);
+        assertThatThrownBy(() -> movieQueryService.search(new MovieQuery(null, null, null, null, null), 0))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.movies.service.MovieProducerViews.view;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ProducerIntervalIndexTest {
+
+    private ProducerIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProducerIntervalIndex();
+        index.rebuild(List.of(
+                view(1L, 1980, true, 10L, "Producer One"),
+                view(2L, 1985, true, 10L, "Producer One"),
+                view(3L, 1982, true, 20L, "Producer Two"),
+                view(4L, 1984, true, 20L, "Producer Two")
+        ));
+    }
+
+    @Test
+    void testRebuildComputesMinAndMax() {
+        ProducerIntervalResponse response = index.getProducerIntervals();
+
+        assertThat(response.getMin()).extracting(ProducerInterval::getProducer).containsExactly("Producer Two");
+        assertThat(response.getMin().get(0).getInterval()).isEqualTo(2);
+        assertThat(response.getMax()).extracting(ProducerInterval::getProducer).containsExactly("Producer One");
+        assertThat(response.getMax().get(0).getInterval()).isEqualTo(5);
+    }
+
+    @Test
+    void testAddedMovieUpdatesIntervals() {
+        index.apply(List.of(5L), List.of(view(5L, 1995, true, 20L, "Producer Two")));
+
+        ProducerIntervalResponse response = index.getProducerIntervals();
+        assertThat(response.getMin().get(0).getInterval()).isEqualTo(2);
+        assertThat(response.getMax()).hasSize(1);
+        assertThat(response.getMax().get(0).getProducer()).isEqualTo("Producer Two");
+        assertThat(response.getMax().get(0).getPreviousWin()).isEqualTo(1984);
+        assertThat(response.getMax().get(0).getFollowingWin()).isEqualTo(1995);
+    }
+
+    @Test
+    void testWinnerFlagFlipRemovesInterval() {
+        // Filme 4 deixa de ser vencedor: Producer Two fica com um único prêmio
+        index.apply(List.of(4L), List.of(view(4L, 1984, false, 20L, "Producer Two")));
+
+        ProducerIntervalResponse response = index.getProducerIntervals();
+        assertThat(response.getMin()).extracting(ProducerInterval::getProducer).containsExactly("Producer One");
+        assertThat(response.getMax()).extracting(ProducerInterval::getProducer).containsExactly("Producer One");
+
+        // E volta a ser vencedor
+        index.apply(List.of(4L), List.of(view(4L, 1984, true, 20L, "Producer Two")));
+        assertThat(index.getProducerIntervals().getMin()).extracting(ProducerInterval::getProducer)
+                .containsExactly("Producer Two");
+    }
+
+    @Test
+    void testRemovedMoviesEmptyTheIndex() {
+        index.apply(List.of(1L, 3L), List.of());
+
+        ProducerIntervalResponse response = index.getProducerIntervals();
+        assertThat(response.getMin()).isEmpty();
+        assertThat(response.getMax()).isEmpty();
+    }
+
+    @Test
+    void testTiesAreOrderedByProducerAndYear() {
+        index.apply(List.of(5L, 6L), List.of(
+                view(5L, 1990, true, 30L, "Another Producer"),
+                view(6L, 1992, true, 30L, "Another Producer")
+        ));
+
+        assertThat(index.getProducerIntervals().getMin())
+                .extracting(ProducerInterval::getProducer)
+                .containsExactly("Another Producer", "Producer Two");
+    }
+
+    @Test
+    void testRepeatedWinsInTheSameYearKeepEveryInterval() {
+        index.apply(List.of(5L, 6L, 7L), List.of(
+                view(5L, 1990, true, 30L, "Another Producer"),
+                view(6L, 1990, true, 30L, "Another Producer"),
+                view(7L, 1990, true, 30L, "Another Producer")
+        ));
+
+        assertThat(index.getProducerIntervals().getMin())
+                .extracting(ProducerInterval::getProducer, ProducerInterval::getInterval)
+                .containsExactly(tuple("Another Producer", 0), tuple("Another Producer", 0));
+
+        index.apply(List.of(6L), List.of());
+        assertThat(index.getProducerIntervals().getMin()).hasSize(1);
+    }
+
+    @Test
+    void testRebuildMatchesIncrementalApply() {
+        // Fora de ordem, com vitórias repetidas no mesmo ano, produtor repetido no filme e não vencedores
+        List<MovieProducerView> rows = List.of(
+                view(9L, 2001, true, 10L, "Producer One"),
+                view(3L, 1990, true, 10L, "Producer One"),
+                view(3L, 1990, true, 20L, "Producer Two"),
+                view(7L, 1990, true, 20L, "Producer Two"),
+                view(7L, 1990, true, 20L, "Producer Two"),
+                view(5L, 1995, false, 10L, "Producer One"),
+                view(1L, 1999, true, 20L, "Producer Two"),
+                view(4L, 1993, true, 30L, "Producer Three"),
+                view(8L, 1980, true, 10L, "Producer One")
+        );
+        ProducerIntervalIndex incremental = new ProducerIntervalIndex();
+        incremental.apply(List.of(1L, 3L, 4L, 5L, 7L, 8L, 9L), rows);
+
+        index.rebuild(rows);
+
+        assertThat(index.findIntervals(IntervalQuery.shortest(), null, 100))
+                .hasSize(4)
+                .isEqualTo(incremental.findIntervals(IntervalQuery.shortest(), null, 100));
+
+        // O caminho incremental continua valendo depois do rebuild
+        index.apply(List.of(9L), List.of());
+        incremental.apply(List.of(9L), List.of());
+        assertThat(index.findIntervals(IntervalQuery.longest(), null, 100))
+                .isEqualTo(incremental.findIntervals(IntervalQuery.longest(), null, 100));
+    }
+}
@@ -0,0 +1,159 @@
+package br.movies.service;
+
+import br.movies.datasource.entity.Movie;
+import br.movies.datasource.entity.Producer;
+import br.movies.datasource.event.MovieChangeTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a consulta antiga (entidades + producers lazy, N+1) com a projeção única.
+ * Executar com: mvn test -Dtest=ProducerIntervalQueryBenchmarkTest -Dbenchmark=true
+ * Tamanhos: -Dbenchmark.sizes=10000,100000,1000000 (o caminho antigo só roda até -Dbenchmark.legacy.max)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProducerIntervalQueryBenchmarkTest {
+
+    private static final int RUNS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JvmProducerIntervalCalculator jvmProducerIntervalCalculator;
+
+    @Autowired
+    private MovieChangeTracker movieChangeTracker;
+
+    @AfterAll
+    void cleanUp() {
+        clearTables();
+        movieChangeTracker.reloaded();
+    }
+
+    @Test
+    void benchmarkWinnerQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int[] sizes = Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000,1000000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int legacyMax = Integer.getInteger("benchmark.legacy.max", 100_000);
+
+        System.out.printf("%-10s %-12s %10s %12s%n", "winners", "path", "queries", "avg ms");
+        for (int size : sizes) {
+            seed(size, Math.max(1, size / 10));
+
+            Measurement projectionMeasurement = measure(statistics, jvmProducerIntervalCalculator::calculate);
+            print(size, "projection", projectionMeasurement);
+            assertThat(projectionMeasurement.queries()).isEqualTo(1);
+
+            if (size <= legacyMax) {
+                Measurement legacyMeasurement = measure(statistics, this::legacyProducerYears);
+                print(size, "legacy", legacyMeasurement);
+                assertThat(legacyMeasurement.queries()).isGreaterThan(projectionMeasurement.queries());
+            }
+            assertThat(jvmProducerIntervalCalculator.calculate().getMin()).isNotEmpty();
+        }
+    }
+
+    private record Measurement(long queries, double averageMillis) {
+    }
+
+    private Measurement measure(Statistics statistics, Runnable action) {
+        // Aquecimento
+        action.run();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            action.run();
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+        return new Measurement(statistics.getPrepareStatementCount() / RUNS, averageMillis);
+    }
+
+    private void print(int size, String path, Measurement measurement) {
+        System.out.printf("%-10d %-12s %10d %12.2f%n", size, path, measurement.queries(), measurement.averageMillis());
+    }
+
+    // Reproduz o agrupamento anterior: entidades vencedoras e acesso lazy aos produtores
+    private void legacyProducerYears() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Movie> winners = entityManager
+                    .createQuery("select m from Movie m where m.winner = true order by m.yearMovie", Movie.class)
+                    .getResultList();
+            Map<Producer, List<Integer>> producerYears = new HashMap<>();
+            for (Movie movie : winners) {
+                for (Producer producer : movie.getProducers()) {
+                    producerYears.computeIfAbsent(producer, k -> new ArrayList<>()).add(movie.getYearMovie());
+                }
+            }
+            entityManager.clear();
+        });
+    }
+
+    private void seed(int winners, int producers) {
+        clearTables();
+        Random random = new Random(42);
+
+        List<Object[]> producerRows = new ArrayList<>(producers);
+        for (int i = 1; i <= producers; i++) {
+            producerRows.add(new Object[]{(long) i, "Producer " + i, "producer " + i});
+        }
+        jdbcTemplate.batchUpdate("insert into producer (id, name, name_key) values (?, ?, ?)", producerRows);
+
+        List<Object[]> movieRows = new ArrayList<>(10_000);
+        List<Object[]> linkRows = new ArrayList<>(10_000);
+        for (int i = 1; i <= winners; i++) {
+            movieRows.add(new Object[]{(long) i, 1900 + random.nextInt(125), "Movie " + i, true});
+            linkRows.add(new Object[]{(long) i, (long) (1 + random.nextInt(producers))});
+            if (movieRows.size() == 10_000 || i == winners) {
+                jdbcTemplate.batchUpdate("insert into movie (id, year_movie, title, winner) values (?, ?, ?, ?)", movieRows);
+                jdbcTemplate.batchUpdate("insert into movie_producers (movie_id, producers_id) values (?, ?)", linkRows);
+                movieRows.clear();
+                linkRows.clear();
+            }
+        }
+    }
+
+    private void clearTables() {
+        jdbcTemplate.update("delete from movie_producers");
+        jdbcTemplate.update("delete from movie_studios");
+        jdbcTemplate.update("delete from movie");
+        jdbcTemplate.update("delete from producer");
+        jdbcTemplate.update("delete from studio");
+    }
+}
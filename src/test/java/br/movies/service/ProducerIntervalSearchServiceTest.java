@@ -0,0 +1,93 @@
+package br.movies.service;
+
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.movies.service.MovieProducerViews.winner;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ProducerIntervalSearchServiceTest {
+
+    private ProducerIntervalSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        // Intervalos: Producer A = 1, 2, 3 | Producer B = 4, 10 | Producer C = 7
+        List<MovieProducerView> winners = new ArrayList<>();
+        long movieId = 1;
+        for (int year : new int[]{1980, 1981, 1983, 1986}) {
+            winners.add(winner(movieId++, year, 1L, "Producer A"));
+        }
+        for (int year : new int[]{1980, 1984, 1994}) {
+            winners.add(winner(movieId++, year, 2L, "Producer B"));
+        }
+        for (int year : new int[]{1990, 1997}) {
+            winners.add(winner(movieId++, year, 3L, "Producer C"));
+        }
+
+        ProducerIntervalIndex index = new ProducerIntervalIndex();
+        index.rebuild(winners);
+        searchService = new ProducerIntervalSearchService(index);
+    }
+
+    @Test
+    void testShortestIntervalsArePagedWithCursor() {
+        ProducerIntervalPage first = searchService.search(IntervalQuery.shortest(), 2, null);
+        assertThat(first.getIntervals()).extracting(ProducerInterval::getInterval).containsExactly(1, 2);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        ProducerIntervalPage second = searchService.search(IntervalQuery.shortest(), 2, first.getNextCursor());
+        assertThat(second.getIntervals()).extracting(ProducerInterval::getInterval).containsExactly(3, 4);
+
+        ProducerIntervalPage third = searchService.search(IntervalQuery.shortest(), 2, second.getNextCursor());
+        assertThat(third.getIntervals()).extracting(ProducerInterval::getInterval).containsExactly(7, 10);
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testLongestIntervalsWithThreshold() {
+        IntervalQuery query = new IntervalQuery(true, 4, null, null, null);
+
+        ProducerIntervalPage page = searchService.search(query, 10, null);
+
+        assertThat(page.getIntervals()).extracting(ProducerInterval::getInterval).containsExactly(10, 7, 4);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testYearWindowRestriction() {
+        IntervalQuery query = new IntervalQuery(false, null, null, 1980, 1985);
+
+        ProducerIntervalPage page = searchService.search(query, 10, null);
+
+        assertThat(page.getIntervals())
+                .extracting(ProducerInterval::getProducer, ProducerInterval::getPreviousWin)
+                .containsExactly(tuple("Producer A", 1980), tuple("Producer A", 1981), tuple("Producer B", 1980));
+    }
+
+    @Test
+    void testInvalidCursorAndLimitAreRejected() {
+        assertThatThrownBy(() -> searchService.search(IntervalQuery.shortest(), 10, "not-a-cursor"))
+                .isInstanceOf(InvalidQueryException.class);
+        assertThatThrownBy(() -> searchService.search(IntervalQuery.shortest(), 0, null))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+
+    @Test
+    void testInvertedRangesAreRejected() {
+        assertThatThrownBy(() -> new IntervalQuery(false, 5, 1, null, null))
+                .isInstanceOf(InvalidQueryException.class);
+        assertThatThrownBy(() -> new IntervalQuery(true, null, null, 1990, 1980))
+                .isInstanceOf(InvalidQueryException.class);
+        assertThatThrownBy(() -> new IntervalQuery(true, -1, null, null, null))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package br.movies.service;
+
+import br.movies.datasource.DataLoader;
+import br.movies.datasource.repository.MovieRepository;
+import br.movies.datasource.repository.ProducerRepository;
+import br.movies.datasource.repository.StudioRepository;
+import br.movies.dto.MovieRequest;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProducerIntervalStrategyConsistencyTest {
+
+    @Autowired
+    private DataLoader dataLoader;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private ProducerIntervalIndex producerIntervalIndex;
+
+    @Autowired
+    private JvmProducerIntervalCalculator jvmProducerIntervalCalculator;
+
+    @Autowired
+    private SqlProducerIntervalCalculator sqlProducerIntervalCalculator;
+
+    @Autowired
+    private ColumnarProducerIntervalCalculator columnarProducerIntervalCalculator;
+
+    @Autowired
+    private MovieWriteService movieWriteService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void loadMovieList() throws Exception {
+        // Outras classes de teste limpam a base, então recarrega o Movielist.csv original
+        movieRepository.deleteAll();
+        producerRepository.deleteAll();
+        studioRepository.deleteAll();
+        dataLoader.run();
+    }
+
+    @Test
+    void testSqlStrategyMatchesJvmStrategyByteForByte() throws Exception {
+        ProducerIntervalResponse jvm = jvmProducerIntervalCalculator.calculate();
+        ProducerIntervalResponse sql = sqlProducerIntervalCalculator.calculate();
+
+        assertThat(jvm.getMin()).isNotEmpty();
+        assertThat(jvm.getMax()).isNotEmpty();
+        assertThat(objectMapper.writeValueAsBytes(sql)).isEqualTo(objectMapper.writeValueAsBytes(jvm));
+    }
+
+    @Test
+    void testIndexStrategyMatchesJvmStrategyByteForByte() throws Exception {
+        ProducerIntervalResponse jvm = jvmProducerIntervalCalculator.calculate();
+        ProducerIntervalResponse index = producerIntervalIndex.getProducerIntervals();
+
+        assertThat(objectMapper.writeValueAsBytes(index)).isEqualTo(objectMapper.writeValueAsBytes(jvm));
+    }
+
+    @Test
+    void testColumnarStrategyMatchesJvmStrategyByteForByte() throws Exception {
+        ProducerIntervalResponse jvm = jvmProducerIntervalCalculator.calculate();
+        ProducerIntervalResponse columnar = columnarProducerIntervalCalculator.calculate();
+
+        assertThat(objectMapper.writeValueAsBytes(columnar)).isEqualTo(objectMapper.writeValueAsBytes(jvm));
+    }
+
+    @Test
+    void testRepeatedWinsInTheSameYearMatchAcrossStrategies() throws Exception {
+        // Três vitórias no mesmo ano geram dois intervalos (0, 1970, 1970) idênticos
+        MovieRequest request = new MovieRequest(1970, "Same Year", true, List.of("Studio"), List.of("Same Year Producer"));
+        List<Long> ids = movieWriteService.createAll(List.of(request, request, request)).getIds();
+        try {
+            ProducerIntervalResponse jvm = jvmProducerIntervalCalculator.calculate();
+            assertThat(jvm.getMin()).filteredOn(interval -> interval.getProducer().equals("Same Year Producer"))
+                    .extracting(ProducerInterval::getInterval)
+                    .containsExactly(0, 0);
+
+            byte[] expected = objectMapper.writeValueAsBytes(jvm);
+            assertThat(objectMapper.writeValueAsBytes(producerIntervalIndex.getProducerIntervals())).isEqualTo(expected);
+            assertThat(objectMapper.writeValueAsBytes(sqlProducerIntervalCalculator.calculate())).isEqualTo(expected);
+            assertThat(objectMapper.writeValueAsBytes(columnarProducerIntervalCalculator.calculate())).isEqualTo(expected);
+        } finally {
+            ids.forEach(movieWriteService::delete);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.movies.service;
+
+import br.movies.config.IntervalProperties;
+import br.movies.datasource.projection.MovieProducerView;
+import br.movies.dto.ProducerInterval;
+import br.movies.dto.ProducerIntervalResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static br.movies.service.MovieProducerViews.winner;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProducerIntervalStreamServiceTest {
+
+    @Test
+    void testStreamsAllTiesInResponseOrder() throws IOException {
+        // Muitos empates no mínimo e no máximo, em mais de um bloco
+        int producers = 519;
+        ProducerIntervalIndex index = new ProducerIntervalIndex();
+        index.rebuild(ties(producers));
+        ProducerIntervalStreamService.IntervalSnapshot snapshot = streamService(index).snapshot();
+
+        List<ProducerInterval> shortest = new ArrayList<>();
+        List<ProducerInterval> longest = new ArrayList<>();
+        snapshot.forEachShortest(shortest::add);
+        snapshot.forEachLongest(longest::add);
+
+        ProducerIntervalResponse expected = index.getProducerIntervals();
+        assertThat(shortest).hasSize(producers).isEqualTo(expected.getMin());
+        assertThat(longest).hasSize(producers).isEqualTo(expected.getMax());
+        assertThat(shortest).extracting(ProducerInterval::getInterval).containsOnly(1);
+        assertThat(longest).extracting(ProducerInterval::getInterval).containsOnly(10);
+    }
+
+    @Test
+    void testSnapshotIsNotAffectedByLaterWrites() throws IOException {
+        ProducerIntervalIndex index = new ProducerIntervalIndex();
+        index.rebuild(List.of(
+                winner(1L, 1980, 10L, "Producer One"),
+                winner(2L, 1985, 10L, "Producer One"),
+                winner(3L, 1982, 20L, "Producer Two"),
+                winner(4L, 1984, 20L, "Producer Two")
+        ));
+        ProducerIntervalResponse before = index.getProducerIntervals();
+        ProducerIntervalStreamService.IntervalSnapshot snapshot = streamService(index).snapshot();
+
+        // Gravação entre a leitura e a escrita da resposta: novo mínimo e novo máximo
+        index.apply(List.of(5L, 6L), List.of(winner(5L, 1983, 20L, "Producer Two"), winner(6L, 2000, 10L, "Producer One")));
+
+        List<ProducerInterval> shortest = new ArrayList<>();
+        List<ProducerInterval> longest = new ArrayList<>();
+        snapshot.forEachShortest(shortest::add);
+        snapshot.forEachLongest(longest::add);
+        assertThat(shortest).isEqualTo(before.getMin());
+        assertThat(longest).isEqualTo(before.getMax());
+    }
+
+    @Test
+    void testWriteBetweenChunksAbortsTheStream() throws IOException {
+        ProducerIntervalIndex index = new ProducerIntervalIndex();
+        index.rebuild(ties(ProducerIntervalStreamService.CHUNK_SIZE + 1));
+        ProducerIntervalStreamService.IntervalSnapshot snapshot = streamService(index).snapshot();
+
+        // O primeiro bloco já foi lido; a gravação muda a versão antes do segundo
+        List<ProducerInterval> shortest = new ArrayList<>();
+        index.apply(List.of(9999L), List.of(winner(9999L, 1992, 1L, "Producer 0001")));
+
+        assertThatThrownBy(() -> snapshot.forEachShortest(shortest::add))
+                .isInstanceOf(ConcurrentModificationException.class);
+        assertThat(shortest).hasSize(ProducerIntervalStreamService.CHUNK_SIZE);
+    }
+
+    @Test
+    void testEmptyIndexStreamsNothing() throws IOException {
+        List<ProducerInterval> shortest = new ArrayList<>();
+        streamService(new ProducerIntervalIndex()).snapshot().forEachShortest(shortest::add);
+
+        assertThat(shortest).isEmpty();
+    }
+
+    // Cada produtor vence em 1990, 1991 e 2001: intervalos de 1 e de 10 anos
+    private static List<MovieProducerView> ties(int producers) {
+        List<MovieProducerView> winners = new ArrayList<>();
+        long movieId = 1;
+        for (long producer = 1; producer <= producers; producer++) {
+            String name = String.format("Producer %04d", producer);
+            for (int year : new int[]{1990, 1991, 2001}) {
+                winners.add(winner(movieId++, year, producer, name));
+            }
+        }
+        return winners;
+    }
+
+    // Estratégia index (padrão): o serviço que recalcula os intervalos não é usado
+    private ProducerIntervalStreamService streamService(ProducerIntervalIndex index) {
+        return new ProducerIntervalStreamService(index, null, new IntervalProperties());
+    }
+}
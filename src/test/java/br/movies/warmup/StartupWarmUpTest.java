@@ -0,0 +1,66 @@
+package br.movies.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "movies.warmup.enabled=true")
+@ActiveProfiles("test")
+class StartupWarmUpTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StartupWarmUp startupWarmUp;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should report readiness only after the warm-up finished")
+    void shouldFlipReadinessAfterWarmUp() throws InterruptedException {
+        String readinessUrl = "http://localhost:" + port + "/ws-movies/actuator/health/readiness";
+
+        // Enquanto aquece o grupo readiness responde 503; o liveness já está no ar
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        ResponseEntity<String> readiness = restTemplate.getForEntity(readinessUrl, String.class);
+        while (readiness.getStatusCode() != HttpStatus.OK && System.nanoTime() < deadline) {
+            assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            TimeUnit.MILLISECONDS.sleep(50);
+            readiness = restTemplate.getForEntity(readinessUrl, String.class);
+        }
+
+        assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getBody()).contains("\"warmUp\"").contains("READY");
+        assertThat(restTemplate.getForEntity("http://localhost:" + port + "/ws-movies/actuator/health/liveness", String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(startupWarmUp.getCompletedIterations()).isPositive();
+
+        TimeGauge timeToWarm = meterRegistry.find("movies.startup.time.to.warm").timeGauge();
+        assertThat(timeToWarm).isNotNull();
+        assertThat(timeToWarm.value(TimeUnit.MILLISECONDS)).isPositive();
+        assertThat(meterRegistry.find("movies.warmup.duration").timer().count()).isEqualTo(1);
+
+        // As iterações não passam pelas métricas das requisições: só o preenchimento do cache conta, uma vez
+        assertThat(meterRegistry.find("movies.intervals.calculate").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("movies.cache.requests").tag("result", "hit").counter()).isNull();
+        assertThat(meterRegistry.find("movies.serialization").tag("response", "awards-intervals").timer().count())
+                .isEqualTo(1);
+    }
+}